@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.spi.encrypt;
+
+/**
+ * Sharding encryptor which can encrypt and decrypt values in bulk.
+ *
+ * @author agent
+ */
+public interface ShardingBulkEncryptor extends ShardingEncryptor {
+    
+    /**
+     * Encode in bulk.
+     * 
+     * @param plaintexts plaintexts
+     * @return ciphertexts, in same order of plaintexts
+     */
+    String[] bulkEncrypt(Object[] plaintexts);
+    
+    /**
+     * Decode in bulk.
+     * 
+     * @param ciphertexts ciphertexts
+     * @return plaintexts, in same order of ciphertexts
+     */
+    Object[] bulkDecrypt(String[] ciphertexts);
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.constant.properties;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.core.util.StringUtil;
@@ -38,6 +39,10 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class ShardingProperties {
     
+    private static final int MIN_APPROXIMATE_COUNT_DISTINCT_PRECISION = 4;
+    
+    private static final int MAX_APPROXIMATE_COUNT_DISTINCT_PRECISION = 18;
+    
     @Getter
     private final Properties props;
     
@@ -46,6 +51,7 @@ public final class ShardingProperties {
     public ShardingProperties(final Properties props) {
         this.props = props;
         validate();
+        validateApproximateCountDistinctPrecision();
     }
     
     private void validate() {
@@ -71,6 +77,13 @@ public final class ShardingProperties {
         }
     }
     
+    private void validateApproximateCountDistinctPrecision() {
+        int precision = getValue(ShardingPropertiesConstant.COUNT_DISTINCT_APPROXIMATE_PRECISION);
+        Preconditions.checkArgument(0 == precision || precision >= MIN_APPROXIMATE_COUNT_DISTINCT_PRECISION && precision <= MAX_APPROXIMATE_COUNT_DISTINCT_PRECISION, 
+                "Value '%s' of '%s' must be 0 or between %s and %s.", 
+                precision, ShardingPropertiesConstant.COUNT_DISTINCT_APPROXIMATE_PRECISION.getKey(), MIN_APPROXIMATE_COUNT_DISTINCT_PRECISION, MAX_APPROXIMATE_COUNT_DISTINCT_PRECISION);
+    }
+    
     private String getErrorMessage(final ShardingPropertiesConstant shardingPropertiesConstant, final String invalidValue) {
         return String.format("Value '%s' of '%s' cannot convert to type '%s'.", invalidValue, shardingPropertiesConstant.getKey(), shardingPropertiesConstant.getType().getName());
     }
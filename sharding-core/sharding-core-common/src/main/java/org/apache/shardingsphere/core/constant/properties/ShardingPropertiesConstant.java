@@ -75,6 +75,28 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Use work stealing pool as worker thread pool or not.
+     * 
+     * <p>
+     * If enabled, worker thread pool will be a fork join pool with parallelism of executor size,
+     * or CPU cores * 2 if executor size is 0, instead of an unbounded cached thread pool.
+     * Default: false
+     * </p>
+     */
+    EXECUTOR_WORK_STEALING_ENABLED("executor.work.stealing.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max concurrent execute groups for each data source.
+     * 
+     * <p>
+     * Execute groups exceed this limit will wait in queue of data source without occupying worker threads,
+     * so that one hot data source can not starve the others.
+     * Default: 0, means infinite.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE("executor.max.concurrency.per.datasource", String.valueOf(0), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -91,6 +113,18 @@ public enum ShardingPropertiesConstant {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Sharding-Proxy's byte size of row batch to flush.
+     *
+     * <p>
+     * If configured, rows of query result will be encoded into one buffer by frontend which supports row batch,
+     * and the buffer will be flushed once its size reaches this value or bytes before channel unwritable, whichever is smaller.
+     * Flush threshold of records will be ignored then.
+     * Default: 0, means write and flush records one by one
+     * </p>
+     */
+    PROXY_FRONTEND_FLUSH_BATCH_BYTES("proxy.frontend.flush.batch.bytes", String.valueOf(0), int.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -125,7 +159,143 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    /**
+     * Enable or Disable asynchronous execution for queries of Sharding-Proxy.
+     *
+     * <p>
+     * If enabled, all execute groups of a query are submitted at once, and query results are merged in completion order of groups,
+     * so rows of fast shards can be sent before slow shards finished. Not used in transaction which executes in serial.
+     * Default: false
+     * </p>
+     */
+    PROXY_BACKEND_ASYNC_EXECUTE_ENABLED("proxy.backend.async.execute.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Query timeout seconds for each actual statement of Sharding-Proxy.
+     *
+     * <p>
+     * Statements of a shard exceeding the timeout are cancelled by backend database, other shards are not affected.
+     * Default: 0, means no timeout
+     * </p>
+     */
+    PROXY_BACKEND_QUERY_TIMEOUT_SECONDS("proxy.backend.query.timeout.seconds", String.valueOf(0), int.class),
+    
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable stream merge for group by when group by and order by items are different.
+     *
+     * <p>
+     * If enabled, order by items of actual SQL will be replaced with group by items, 
+     * groups will be merged in stream and only the rows within pagination will be kept in memory for ordering.
+     * Default: false
+     * </p>
+     */
+    GROUP_BY_STREAM_MERGE_ENABLED("group.by.stream.merge.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max count of groups kept in memory for group by memory merge.
+     *
+     * <p>
+     * If exceeded, partial aggregations will be spilled into temporary files and merged at last.
+     * Default: 0, means never spill
+     * </p>
+     */
+    GROUP_BY_MERGE_SPILL_THRESHOLD("group.by.merge.spill.threshold", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable top N hint for order by with limit pagination.
+     *
+     * <p>
+     * If enabled, max rows of actual statements will be hinted as offset + row count,
+     * so shards stop to return rows which can never enter the page.
+     * Default: false
+     * </p>
+     */
+    ORDER_BY_TOP_N_MERGE_ENABLED("order.by.top.n.merge.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max SQL statements cached by SQL parse engine.
+     * 
+     * <p>
+     * SQL parse engine is shared by database type and cache size.
+     * Least recently used SQL statements will be evicted if cache is full.
+     * Default: 65535
+     * </p>
+     */
+    SQL_PARSE_CACHE_SIZE("sql.parse.cache.size", String.valueOf(65535), int.class),
+    
+    /**
+     * Max rows coalesced into one multiple values insert for batched insert of prepared statement.
+     *
+     * <p>
+     * If greater than 1, rows added by addBatch of single values insert will be coalesced into multiple values inserts,
+     * which will be routed as normal insert and executed as one statement per data node.
+     * Update count of each row is 1 if all rows of coalesced insert are inserted, or SUCCESS_NO_INFO if cannot be decided.
+     * It is ignored for Oracle, which does not support multiple values insert, and for statements returning generated keys.
+     * Default: 0, means never coalesce
+     * </p>
+     */
+    BATCH_INSERT_COALESCE_SIZE("batch.insert.coalesce.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max idle physical prepared statements cached by each sharding connection.
+     *
+     * <p>
+     * If greater than 0, physical prepared statements will be reused by (connection, actual SQL) 
+     * across executions of sharding prepared statements in the same connection, least recently used idle ones will be closed if exceeded.
+     * Default: 0, means never cache
+     * </p>
+     */
+    PREPARED_STATEMENT_CACHE_SIZE("prepared.statement.cache.size", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to commit, rollback and set auto commit of local transaction in parallel.
+     *
+     * <p>
+     * If enabled, cached connections of different data sources will be committed or rolled back concurrently by execute engine,
+     * and all exceptions will still be thrown together after every connection is handled.
+     * Default: false
+     * </p>
+     */
+    TRANSACTION_PARALLEL_ENABLED("transaction.parallel.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * File path of table meta data snapshot.
+     *
+     * <p>
+     * If configured, table meta data will be loaded from the snapshot at startup and refreshed from databases in background,
+     * the snapshot will be ignored if its version, checksum or sharding rule fingerprint mismatches.
+     * Default: empty, means never use snapshot
+     * </p>
+     */
+    TABLE_METADATA_SNAPSHOT_FILE("table.metadata.snapshot.file", "", String.class),
+    
+    /**
+     * Enable or Disable stream merge for select distinct.
+     *
+     * <p>
+     * If enabled, select items of select distinct will be appended to order by items of actual SQL by column index,
+     * duplicated rows will be removed while merging sorted rows of shards in stream instead of collecting all rows in memory.
+     * It is ignored for aggregation distinct, group by, subquery, unqualified shorthand, or select distinct without where and order by.
+     * Default: false
+     * </p>
+     */
+    DISTINCT_STREAM_MERGE_ENABLED("distinct.stream.merge.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Precision of HyperLogLog sketch for approximate count distinct.
+     *
+     * <p>
+     * If configured between 4 and 18, distinct values of shards will be added to a HyperLogLog sketch per group while merging
+     * instead of being collected into sets, it only applies when all aggregation items are count distinct.
+     * Count is exact until distinct values of a group exceed 2^precision / 32,
+     * then standard error is about 1.04 / sqrt(2^precision), such as 1.63% for 12 and 0.81% for 14,
+     * and memory is 2^precision bytes per group.
+     * Default: 0, means always count distinct exactly
+     * </p>
+     */
+    COUNT_DISTINCT_APPROXIMATE_PRECISION("count.distinct.approximate.precision", String.valueOf(0), int.class);
     
     private final String key;
     
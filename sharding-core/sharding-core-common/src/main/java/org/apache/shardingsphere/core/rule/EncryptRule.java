@@ -29,9 +29,11 @@ import org.apache.shardingsphere.api.config.encrypt.EncryptTableRuleConfiguratio
 import org.apache.shardingsphere.api.config.encrypt.EncryptorRuleConfiguration;
 import org.apache.shardingsphere.core.spi.algorithm.encrypt.ShardingEncryptorServiceLoader;
 import org.apache.shardingsphere.core.strategy.encrypt.EncryptTable;
+import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptors;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -247,13 +249,16 @@ public final class EncryptRule implements BaseRule {
     public List<Object> getEncryptValues(final String logicTable, final String logicColumn, final List<Object> originalValues) {
         final Optional<ShardingEncryptor> shardingEncryptor = findShardingEncryptor(logicTable, logicColumn);
         Preconditions.checkArgument(shardingEncryptor.isPresent(), String.format("Can not find ShardingQueryAssistedEncryptor by %s.%s.", logicTable, logicColumn));
-        return Lists.transform(originalValues, new Function<Object, Object>() {
-            
-            @Override
-            public Object apply(final Object input) {
-                return String.valueOf(shardingEncryptor.get().encrypt(input.toString()));
-            }
-        });
+        Object[] plaintexts = new Object[originalValues.size()];
+        int index = 0;
+        for (Object each : originalValues) {
+            plaintexts[index++] = each.toString();
+        }
+        List<Object> result = new ArrayList<>(plaintexts.length);
+        for (String each : ShardingEncryptors.encrypt(shardingEncryptor.get(), plaintexts)) {
+            result.add(String.valueOf(each));
+        }
+        return result;
     }
     
     /**
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.encrypt.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
@@ -38,8 +39,12 @@ import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -72,16 +77,40 @@ public class ShardingRule implements BaseRule {
     
     private final EncryptRule encryptRule;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> tableRuleMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableRulesMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> broadcastTableNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> bindingTableRuleMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> shardingColumnsMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> broadcastTableRuleMap;
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != shardingRuleConfig, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.ruleConfiguration = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
+        tableRuleMap = createTableRuleMap();
+        actualTableRulesMap = createActualTableRulesMap();
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        broadcastTableNames = createBroadcastTableNames();
+        broadcastTableRuleMap = createBroadcastTableRuleMap();
         bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        bindingTableRuleMap = createBindingTableRuleMap();
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
+        shardingColumnsMap = createShardingColumnsMap();
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
         masterSlaveRules = createMasterSlaveRules(shardingRuleConfig.getMasterSlaveRuleConfigs());
         encryptRule = createEncryptRule(shardingRuleConfig.getEncryptRuleConfig());
@@ -96,6 +125,77 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private Map<String, TableRule> createTableRuleMap() {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<TableRule>> createActualTableRulesMap() {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                Collection<TableRule> actualTableRules = result.get(dataNode.getTableName());
+                if (null == actualTableRules) {
+                    actualTableRules = new ArrayList<>(1);
+                    result.put(dataNode.getTableName(), actualTableRules);
+                }
+                if (!actualTableRules.contains(each)) {
+                    actualTableRules.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> createBroadcastTableNames() {
+        Collection<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
+    private Map<String, TableRule> createBroadcastTableRuleMap() {
+        Map<String, TableRule> result = new HashMap<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            if (!result.containsKey(each.toLowerCase())) {
+                result.put(each.toLowerCase(), new TableRule(shardingDataSourceNames.getDataSourceNames(), each));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createBindingTableRuleMap() {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (TableRule tableRule : each.getTableRules()) {
+                if (!result.containsKey(tableRule.getLogicTable())) {
+                    result.put(tableRule.getLogicTable(), each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<String>> createShardingColumnsMap() {
+        Map<String, Collection<String>> result = new HashMap<>(tableRuleMap.size(), 1);
+        for (TableRule each : tableRules) {
+            Collection<String> shardingColumns = result.get(each.getLogicTable());
+            if (null == shardingColumns) {
+                shardingColumns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+                result.put(each.getLogicTable(), shardingColumns);
+            }
+            shardingColumns.addAll(getDatabaseShardingStrategy(each).getShardingColumns());
+            shardingColumns.addAll(getTableShardingStrategy(each).getShardingColumns());
+        }
+        return result;
+    }
+    
     private String getDefaultGenerateKeyColumn(final ShardingRuleConfiguration shardingRuleConfig) {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
@@ -149,12 +249,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(tableRuleMap.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -164,12 +259,8 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        Collection<TableRule> actualTableRules = actualTableRulesMap.get(actualTableName);
+        return null == actualTableRules ? Optional.<TableRule>absent() : Optional.of(actualTableRules.iterator().next());
     }
     
     /**
@@ -183,8 +274,9 @@ public class ShardingRule implements BaseRule {
         if (tableRule.isPresent()) {
             return tableRule.get();
         }
-        if (isBroadcastTable(logicTableName)) {
-            return new TableRule(shardingDataSourceNames.getDataSourceNames(), logicTableName);
+        TableRule broadcastTableRule = broadcastTableRuleMap.get(logicTableName.toLowerCase());
+        if (null != broadcastTableRule) {
+            return broadcastTableRule;
         }
         if (!Strings.isNullOrEmpty(shardingDataSourceNames.getDefaultDataSourceName())) {
             return new TableRule(shardingDataSourceNames.getDefaultDataSourceName(), logicTableName);
@@ -256,12 +348,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(bindingTableRuleMap.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -289,12 +376,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return broadcastTableNames.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -320,16 +402,8 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
-    private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
-        return getDatabaseShardingStrategy(tableRule).getShardingColumns().contains(columnName) || getTableShardingStrategy(tableRule).getShardingColumns().contains(columnName);
+        Collection<String> shardingColumns = shardingColumnsMap.get(tableName.toLowerCase());
+        return null != shardingColumns && shardingColumns.contains(columnName);
     }
     
     /**
@@ -339,12 +413,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -369,11 +439,13 @@ public class ShardingRule implements BaseRule {
      * @return logic table name
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
+        Collection<TableRule> actualTableRules = actualTableRulesMap.get(actualTableName);
+        if (null == actualTableRules) {
+            return Collections.emptyList();
+        }
         Collection<String> result = new LinkedList<>();
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                result.add(each.getLogicTable());
-            }
+        for (TableRule each : actualTableRules) {
+            result.add(each.getLogicTable());
         }
         return result;
     }
@@ -21,10 +21,11 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.ServiceLoader;
 
@@ -71,11 +72,12 @@ public final class NewInstanceServiceLoader {
     @SneakyThrows
     @SuppressWarnings("unchecked")
     public static <T> Collection<T> newServiceInstances(final Class<T> service) {
-        Collection<T> result = new LinkedList<>();
-        if (null == SERVICE_MAP.get(service)) {
-            return result;
+        Collection<Class<?>> serviceClasses = SERVICE_MAP.get(service);
+        if (null == serviceClasses) {
+            return Collections.emptyList();
         }
-        for (Class<?> each : SERVICE_MAP.get(service)) {
+        Collection<T> result = new ArrayList<>(serviceClasses.size());
+        for (Class<?> each : serviceClasses) {
             result.add((T) each.newInstance());
         }
         return result;
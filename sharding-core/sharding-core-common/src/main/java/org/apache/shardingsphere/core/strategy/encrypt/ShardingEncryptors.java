@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.strategy.encrypt;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBulkEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+
+/**
+ * Sharding encryptors.
+ * 
+ * <p>
+ * Use bulk API if sharding encryptor is {@code ShardingBulkEncryptor}, otherwise encrypt or decrypt values one by one.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingEncryptors {
+    
+    /**
+     * Encrypt values.
+     * 
+     * @param shardingEncryptor sharding encryptor
+     * @param plaintexts plaintexts
+     * @return ciphertexts, in same order of plaintexts
+     */
+    public static String[] encrypt(final ShardingEncryptor shardingEncryptor, final Object[] plaintexts) {
+        if (shardingEncryptor instanceof ShardingBulkEncryptor) {
+            return ((ShardingBulkEncryptor) shardingEncryptor).bulkEncrypt(plaintexts);
+        }
+        String[] result = new String[plaintexts.length];
+        for (int i = 0; i < plaintexts.length; i++) {
+            result[i] = shardingEncryptor.encrypt(plaintexts[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt values.
+     * 
+     * @param shardingEncryptor sharding encryptor
+     * @param ciphertexts ciphertexts
+     * @return plaintexts, in same order of ciphertexts
+     */
+    public static Object[] decrypt(final ShardingEncryptor shardingEncryptor, final String[] ciphertexts) {
+        if (shardingEncryptor instanceof ShardingBulkEncryptor) {
+            return ((ShardingBulkEncryptor) shardingEncryptor).bulkDecrypt(ciphertexts);
+        }
+        Object[] result = new Object[ciphertexts.length];
+        for (int i = 0; i < ciphertexts.length; i++) {
+            result[i] = shardingEncryptor.decrypt(ciphertexts[i]);
+        }
+        return result;
+    }
+}
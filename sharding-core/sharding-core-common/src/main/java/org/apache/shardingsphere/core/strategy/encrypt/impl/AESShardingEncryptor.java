@@ -19,34 +19,41 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBulkEncryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
 import java.util.Properties;
 
 /**
  * AES sharding encryptor.
+ * 
+ * <p>
+ * Secret key is derived once for each key value, and ciphers are cached in thread local.
+ * </p>
  *
  * @author panjuan
  */
-@Getter
-@Setter
-public final class AESShardingEncryptor implements ShardingEncryptor {
+public final class AESShardingEncryptor implements ShardingBulkEncryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
+    @Getter
+    @Setter
     private Properties properties = new Properties();
     
+    private volatile SecretKey secretKey;
+    
+    private final ThreadLocal<AESCiphers> ciphers = new ThreadLocal<>();
+    
     @Override
     public String getType() {
         return "AES";
@@ -59,8 +66,7 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
     @Override
     @SneakyThrows
     public String encrypt(final Object plaintext) {
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
-        return Base64.encodeBase64String(result);
+        return encrypt(getCiphers().getEncryptCipher(), plaintext);
     }
     
     @Override
@@ -69,19 +75,99 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
-        return new String(result);
+        return decrypt(getCiphers().getDecryptCipher(), ciphertext);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
+    @Override
+    @SneakyThrows
+    public String[] bulkEncrypt(final Object[] plaintexts) {
+        Cipher cipher = getCiphers().getEncryptCipher();
+        String[] result = new String[plaintexts.length];
+        for (int i = 0; i < plaintexts.length; i++) {
+            result[i] = encrypt(cipher, plaintexts[i]);
+        }
+        return result;
+    }
+    
+    @Override
+    @SneakyThrows
+    public Object[] bulkDecrypt(final String[] ciphertexts) {
+        Cipher cipher = null;
+        Object[] result = new Object[ciphertexts.length];
+        for (int i = 0; i < ciphertexts.length; i++) {
+            if (null == ciphertexts[i]) {
+                continue;
+            }
+            if (null == cipher) {
+                cipher = getCiphers().getDecryptCipher();
+            }
+            result[i] = decrypt(cipher, ciphertexts[i]);
+        }
+        return result;
+    }
+    
+    private String encrypt(final Cipher cipher, final Object plaintext) throws GeneralSecurityException {
+        return Base64.encodeBase64String(doFinal(cipher, StringUtils.getBytesUtf8(String.valueOf(plaintext))));
+    }
+    
+    private Object decrypt(final Cipher cipher, final String ciphertext) throws GeneralSecurityException {
+        return new String(doFinal(cipher, Base64.decodeBase64(ciphertext)));
+    }
+    
+    private byte[] doFinal(final Cipher cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            ciphers.remove();
+            throw ex;
+        }
+    }
+    
+    private AESCiphers getCiphers() throws GeneralSecurityException {
+        SecretKey currentSecretKey = getSecretKey();
+        AESCiphers result = ciphers.get();
+        if (null == result || result.getSecretKey() != currentSecretKey) {
+            result = new AESCiphers(currentSecretKey, createCipher(Cipher.ENCRYPT_MODE, currentSecretKey), createCipher(Cipher.DECRYPT_MODE, currentSecretKey));
+            ciphers.set(result);
+        }
+        return result;
+    }
+    
+    private Cipher createCipher(final int mode, final SecretKey secretKey) throws GeneralSecurityException {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+        result.init(mode, secretKey.getKeySpec());
+        return result;
+    }
+    
+    private SecretKey getSecretKey() {
+        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
+        Object keyValue = properties.get(AES_KEY);
+        Preconditions.checkArgument(null != keyValue, String.format("%s can not be null.", AES_KEY));
+        SecretKey result = secretKey;
+        if (null == result || !result.getValue().equals(keyValue.toString())) {
+            result = new SecretKey(keyValue.toString(), new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1(keyValue.toString()), 16), getType()));
+            secretKey = result;
+        }
         return result;
     }
     
-    private byte[] createSecretKey() {
-        Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
-        return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SecretKey {
+        
+        private final String value;
+        
+        private final SecretKeySpec keySpec;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AESCiphers {
+        
+        private final SecretKey secretKey;
+        
+        private final Cipher encryptCipher;
+        
+        private final Cipher decryptCipher;
     }
 }
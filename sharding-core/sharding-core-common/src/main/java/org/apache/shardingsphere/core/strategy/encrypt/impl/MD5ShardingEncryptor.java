@@ -19,9 +19,13 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBulkEncryptor;
 
+import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.Properties;
 
 /**
@@ -31,7 +35,15 @@ import java.util.Properties;
  */
 @Getter
 @Setter
-public final class MD5ShardingEncryptor implements ShardingEncryptor {
+public final class MD5ShardingEncryptor implements ShardingBulkEncryptor {
+    
+    private static final ThreadLocal<MessageDigest> MESSAGE_DIGESTS = new ThreadLocal<MessageDigest>() {
+        
+        @Override
+        protected MessageDigest initialValue() {
+            return DigestUtils.getMd5Digest();
+        }
+    };
     
     private Properties properties = new Properties();
     
@@ -46,11 +58,30 @@ public final class MD5ShardingEncryptor implements ShardingEncryptor {
     
     @Override
     public String encrypt(final Object plaintext) {
-        return DigestUtils.md5Hex(String.valueOf(plaintext));
+        return encrypt(MESSAGE_DIGESTS.get(), plaintext);
     }
     
     @Override
     public Object decrypt(final String ciphertext) {
         return ciphertext;
     }
+    
+    @Override
+    public String[] bulkEncrypt(final Object[] plaintexts) {
+        MessageDigest messageDigest = MESSAGE_DIGESTS.get();
+        String[] result = new String[plaintexts.length];
+        for (int i = 0; i < plaintexts.length; i++) {
+            result[i] = encrypt(messageDigest, plaintexts[i]);
+        }
+        return result;
+    }
+    
+    @Override
+    public Object[] bulkDecrypt(final String[] ciphertexts) {
+        return Arrays.copyOf(ciphertexts, ciphertexts.length, Object[].class);
+    }
+    
+    private String encrypt(final MessageDigest messageDigest, final Object plaintext) {
+        return Hex.encodeHexString(messageDigest.digest(StringUtils.getBytesUtf8(String.valueOf(plaintext))));
+    }
 }
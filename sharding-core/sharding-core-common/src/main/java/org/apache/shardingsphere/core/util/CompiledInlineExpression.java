@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Common inline expressions such as {@code ds_${id % 16}} are compiled into Java evaluators, to avoid invoking groovy closure for each sharding value.
+ * Supported syntax inside {@code ${}} are sharding column, integer literal, {@code + - * %}, parentheses, {@code .hashCode()} and {@code Math.abs()}.
+ * Only {@code Integer}, {@code Long} and {@code String} values are evaluated, others should fall back to groovy.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private final List<Object> segments;
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, absent if expression is not supported to compile
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('"' == each || '\\' == each || '{' == each || '}' == each) {
+                return Optional.absent();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                position++;
+                continue;
+            }
+            int endPosition = inlineExpression.indexOf('}', position);
+            if (position + 1 >= inlineExpression.length() || '{' != inlineExpression.charAt(position + 1) || -1 == endPosition) {
+                return Optional.absent();
+            }
+            Optional<Node> node = new ExpressionParser(inlineExpression.substring(position + 2, endPosition)).parse();
+            if (!node.isPresent()) {
+                return Optional.absent();
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(node.get());
+            position = endPosition + 1;
+        }
+        if (literal.length() > 0) {
+            segments.add(literal.toString());
+        }
+        return Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result, absent if variable is not supported to evaluate
+     */
+    public Optional<String> evaluate(final String variableName, final Object value) {
+        if (!isSupportedValue(value)) {
+            return Optional.absent();
+        }
+        StringBuilder result = new StringBuilder();
+        for (Object each : segments) {
+            if (each instanceof String) {
+                result.append((String) each);
+                continue;
+            }
+            Object segmentValue = ((Node) each).evaluate(variableName, value);
+            if (UNSUPPORTED == segmentValue) {
+                return Optional.absent();
+            }
+            result.append(segmentValue);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isSupportedValue(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof String;
+    }
+    
+    private interface Node {
+        
+        Object evaluate(String variableName, Object value);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object value) {
+            return name.equals(variableName) ? value : UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode implements Node {
+        
+        private final Number literal;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object value) {
+            return literal;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements Node {
+        
+        private final Node node;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object value) {
+            Object result = node.evaluate(variableName, value);
+            return UNSUPPORTED == result ? UNSUPPORTED : result.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements Node {
+        
+        private final Node node;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object value) {
+            Object result = node.evaluate(variableName, value);
+            if (result instanceof Integer) {
+                return Math.abs((Integer) result);
+            }
+            if (result instanceof Long) {
+                return Math.abs((Long) result);
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object value) {
+            Object leftValue = left.evaluate(variableName, value);
+            Object rightValue = right.evaluate(variableName, value);
+            if (UNSUPPORTED == leftValue || UNSUPPORTED == rightValue) {
+                return UNSUPPORTED;
+            }
+            if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+                return leftValue.toString() + rightValue.toString();
+            }
+            if (leftValue instanceof Integer && rightValue instanceof Integer) {
+                return calculate((Integer) leftValue, (Integer) rightValue);
+            }
+            if (isIntegral(leftValue) && isIntegral(rightValue)) {
+                return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            }
+            return UNSUPPORTED;
+        }
+        
+        private boolean isIntegral(final Object value) {
+            return value instanceof Integer || value instanceof Long;
+        }
+        
+        private int calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private long calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionParser {
+        
+        private static final String HASH_CODE = ".hashCode()";
+        
+        private static final String ABS = "Math.abs(";
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Node result = parseExpression();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.<Node>absent() : Optional.of(result);
+        }
+        
+        private Node parseExpression() {
+            Node result = parseTerm();
+            while (null != result && (peek('+') || peek('-'))) {
+                char operator = expression.charAt(position++);
+                Node right = parseTerm();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return result;
+        }
+        
+        private Node parseTerm() {
+            Node result = parseUnary();
+            while (null != result && (peek('*') || peek('%'))) {
+                char operator = expression.charAt(position++);
+                Node right = parseUnary();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return result;
+        }
+        
+        private Node parseUnary() {
+            Node result = parsePrimary();
+            while (null != result && expression.startsWith(HASH_CODE, position)) {
+                position += HASH_CODE.length();
+                result = new HashCodeNode(result);
+            }
+            return result;
+        }
+        
+        private Node parsePrimary() {
+            skipWhitespace();
+            if (position >= expression.length()) {
+                return null;
+            }
+            if (expression.startsWith(ABS, position)) {
+                position += ABS.length();
+                Node result = parseExpression();
+                return null != result && consume(')') ? new AbsNode(result) : null;
+            }
+            char each = expression.charAt(position);
+            if ('(' == each) {
+                position++;
+                Node result = parseExpression();
+                return null != result && consume(')') ? result : null;
+            }
+            if (Character.isDigit(each)) {
+                return parseLiteral();
+            }
+            if (Character.isJavaIdentifierStart(each)) {
+                return parseVariable();
+            }
+            return null;
+        }
+        
+        private Node parseLiteral() {
+            int start = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if ((position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) || peekChar('.')) {
+                return null;
+            }
+            String literal = expression.substring(start, position);
+            try {
+                long result = Long.parseLong(literal);
+                return result <= Integer.MAX_VALUE ? new LiteralNode((int) result) : new LiteralNode(result);
+            } catch (final NumberFormatException ex) {
+                return null;
+            }
+        }
+        
+        private Node parseVariable() {
+            int start = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                position++;
+            }
+            if (peekChar('.') && !expression.startsWith(HASH_CODE, position)) {
+                return null;
+            }
+            return new VariableNode(expression.substring(start, position));
+        }
+        
+        private boolean peek(final char expected) {
+            skipWhitespace();
+            return peekChar(expected);
+        }
+        
+        private boolean peekChar(final char expected) {
+            return position < expression.length() && expected == expression.charAt(position);
+        }
+        
+        private boolean consume(final char expected) {
+            if (!peek(expected)) {
+                return false;
+            }
+            position++;
+            return true;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -70,4 +70,19 @@ public final class ShardingPropertiesTest {
         prop.put("other", "other");
         new ShardingProperties(prop);
     }
+    
+    @Test
+    public void assertValidateApproximateCountDistinctPrecision() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.COUNT_DISTINCT_APPROXIMATE_PRECISION.getKey(), "14");
+        int actual = new ShardingProperties(props).getValue(ShardingPropertiesConstant.COUNT_DISTINCT_APPROXIMATE_PRECISION);
+        assertThat(actual, is(14));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertValidateFailureForApproximateCountDistinctPrecision() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.COUNT_DISTINCT_APPROXIMATE_PRECISION.getKey(), "3");
+        new ShardingProperties(props);
+    }
 }
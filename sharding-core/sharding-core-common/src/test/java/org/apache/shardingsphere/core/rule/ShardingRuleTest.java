@@ -40,6 +40,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -121,6 +122,21 @@ public final class ShardingRuleTest {
         assertThat(shardingRule.getTableRule("Default_Table").getLogicTable(), is("default_table"));
     }
     
+    @Test
+    public void assertGetTableRuleWithCachedBroadcastTableRule() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("Broadcast_Table"), sameInstance(shardingRule.getTableRule("BROADCAST_TABLE")));
+        assertThat(shardingRule.getTableRule("Default_Table").getActualDataNodes().get(0).getTableName(), is("Default_Table"));
+        assertThat(shardingRule.getTableRule("DEFAULT_TABLE").getActualDataNodes().get(0).getTableName(), is("DEFAULT_TABLE"));
+    }
+    
+    @Test
+    public void assertGetLogicTableNames() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getLogicTableNames("table_0"), is((Collection<String>) Collections.singletonList("logic_table")));
+        assertTrue(shardingRule.getLogicTableNames("table_3").isEmpty());
+    }
+    
     @Test(expected = ShardingConfigurationException.class)
     public void assertGetTableRuleFailure() {
         createMinimumShardingRule().getTableRule("New_Table");
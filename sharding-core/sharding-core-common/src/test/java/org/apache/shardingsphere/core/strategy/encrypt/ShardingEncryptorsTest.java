@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.encrypt;
+
+import org.apache.shardingsphere.core.strategy.encrypt.fixture.TestShardingEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBulkEncryptor;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingEncryptorsTest {
+    
+    @Test
+    public void assertEncryptWithBulkEncryptor() {
+        ShardingBulkEncryptor shardingEncryptor = mock(ShardingBulkEncryptor.class);
+        Object[] plaintexts = new Object[] {"a", "b"};
+        when(shardingEncryptor.bulkEncrypt(plaintexts)).thenReturn(new String[] {"encrypt_a", "encrypt_b"});
+        assertThat(ShardingEncryptors.encrypt(shardingEncryptor, plaintexts), is(new String[] {"encrypt_a", "encrypt_b"}));
+    }
+    
+    @Test
+    public void assertEncryptWithoutBulkEncryptor() {
+        assertThat(ShardingEncryptors.encrypt(new TestShardingEncryptor(), new Object[] {"a", "b"}), is(new String[] {"encryptValue", "encryptValue"}));
+    }
+    
+    @Test
+    public void assertDecryptWithBulkEncryptor() {
+        ShardingBulkEncryptor shardingEncryptor = mock(ShardingBulkEncryptor.class);
+        String[] ciphertexts = new String[] {"encrypt_a", "encrypt_b"};
+        when(shardingEncryptor.bulkDecrypt(ciphertexts)).thenReturn(new Object[] {"a", "b"});
+        assertThat(ShardingEncryptors.decrypt(shardingEncryptor, ciphertexts), is(new Object[] {"a", "b"}));
+    }
+    
+    @Test
+    public void assertDecryptWithoutBulkEncryptor() {
+        assertThat(ShardingEncryptors.decrypt(new TestShardingEncryptor(), new String[] {"a", "b"}), is(new Object[] {"decryptValue", "decryptValue"}));
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.Test;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -59,6 +60,26 @@ public final class AESShardingEncryptorTest {
         assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertBulkEncode() {
+        assertThat(encryptor.bulkEncrypt(new Object[] {"test", "test"}), is(new String[] {"dSpPiyENQGDUXMKFMJPGWA==", "dSpPiyENQGDUXMKFMJPGWA=="}));
+    }
+    
+    @Test
+    public void assertBulkDecode() {
+        assertThat(encryptor.bulkDecrypt(new String[] {"dSpPiyENQGDUXMKFMJPGWA==", null}), is(new Object[] {"test", null}));
+    }
+    
+    @Test
+    public void assertEncodeAfterKeyChanged() {
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "test1");
+        encryptor.setProperties(properties);
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+    }
+    
     @Test
     public void assertDecodeWithNull() {
         assertNull(encryptor.decrypt(null));
@@ -43,6 +43,16 @@ public final class MD5ShardingEncryptorTest {
         assertThat(encryptor.decrypt("test").toString(), is("test"));
     }
     
+    @Test
+    public void assertBulkEncode() {
+        assertThat(encryptor.bulkEncrypt(new Object[] {"test", "test"}), is(new String[] {"098f6bcd4621d373cade4e832627b4f6", "098f6bcd4621d373cade4e832627b4f6"}));
+    }
+    
+    @Test
+    public void assertBulkDecode() {
+        assertThat(encryptor.bulkDecrypt(new String[] {"test", null}), is(new Object[] {"test", null}));
+    }
+    
     @Test
     public void assertProperties() {
         Properties properties = new Properties();
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.List;
 
@@ -56,6 +57,23 @@ public class InlineShardingStrategyTest {
         assertThat(actual.size(), is(2));
     }
     
+    @Test
+    public void assertDoShardingWithLongValues() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.<RouteValue>newArrayList(new ListRouteValue("order_id", "t_order", Lists.newArrayList(5L, 6L)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues);
+        assertThat(Lists.newArrayList(actual), is(Lists.newArrayList("t_order_1", "t_order_2")));
+    }
+    
+    @Test
+    public void assertDoShardingWithGroovyFallback() {
+        InlineShardingStrategy shardingStrategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id.intValue() % 4}"));
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.<RouteValue>newArrayList(new ListRouteValue("order_id", "t_order", Lists.newArrayList(new BigDecimal("5"))));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues);
+        assertThat(actual.iterator().next(), is("t_order_1"));
+    }
+    
     @Test
     public void assertGetShardingColumns() {
         assertThat(shardingStrategy.getShardingColumns().size(), is(1));
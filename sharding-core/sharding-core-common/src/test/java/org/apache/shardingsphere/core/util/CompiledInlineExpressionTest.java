@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateModulo() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("ds_${id % 16}").get();
+        assertThat(actual.evaluate("id", 17).get(), is("ds_1"));
+        assertThat(actual.evaluate("id", 35L).get(), is("ds_3"));
+    }
+    
+    @Test
+    public void assertEvaluateArithmetic() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${(order_id - 1) * 2 % 10 + 1}").get();
+        assertThat(actual.evaluate("order_id", 8).get(), is("t_order_5"));
+    }
+    
+    @Test
+    public void assertEvaluateWithMultiplePlaceholders() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("ds_${id % 2}.t_order_${id % 4}").get();
+        assertThat(actual.evaluate("id", 7).get(), is("ds_1.t_order_3"));
+    }
+    
+    @Test
+    public void assertEvaluateHashCode() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_user_${Math.abs(name.hashCode() % 4)}").get();
+        assertThat(actual.evaluate("name", "foo").get(), is("t_user_" + Math.abs("foo".hashCode() % 4)));
+    }
+    
+    @Test
+    public void assertEvaluateConcatenation() {
+        assertFalse(CompiledInlineExpression.compile("t_${'a' == 'a' ? 1 : 2}").isPresent());
+        assertThat(CompiledInlineExpression.compile("t_${name + 1}").get().evaluate("name", "foo").get(), is("t_foo1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("ds_${id % 16}").get();
+        assertFalse(actual.evaluate("id", new BigDecimal("17")).isPresent());
+        assertFalse(actual.evaluate("other_id", 17).isPresent());
+        assertFalse(actual.evaluate("id", "17").isPresent());
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpressions() {
+        assertFalse(CompiledInlineExpression.compile("ds_${id / 16}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("ds_${id.longValue() % 16}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("ds_$id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("ds_${[0, 1]}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("ds_${id % 16").isPresent());
+    }
+    
+    @Test
+    public void assertCompileWithoutPlaceholder() {
+        assertTrue(CompiledInlineExpression.compile("ds_0").isPresent());
+        assertThat(CompiledInlineExpression.compile("ds_0").get().evaluate("id", 1).get(), is("ds_0"));
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLLogger;
@@ -81,6 +82,11 @@ public abstract class BaseShardingEngine {
     
     protected abstract SQLRouteResult route(String sql, List<Object> parameters);
     
+    protected SQLRewriteEngine createSQLRewriteEngine(
+            final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, final String sql, final List<Object> parameters, final boolean isQueryWithCipherColumn) {
+        return new SQLRewriteEngine(shardingRule, sqlRouteResult, sql, parameters, sqlRouteResult.getRoutingResult().isSingleRouting(), isQueryWithCipherColumn);
+    }
+    
     private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters) {
         routingHook.start(sql);
         try {
@@ -104,8 +110,13 @@ public abstract class BaseShardingEngine {
     }
     
     private Collection<RouteUnit> rewriteAndConvert(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, 
-                sqlRouteResult, sql, parameters, sqlRouteResult.getRoutingResult().isSingleRouting(), shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.QUERY_WITH_CIPHER_COLUMN));
+        if (sqlRouteResult.getShardingStatement() instanceof ShardingSelectOptimizedStatement) {
+            ShardingSelectOptimizedStatement shardingStatement = (ShardingSelectOptimizedStatement) sqlRouteResult.getShardingStatement();
+            shardingStatement.setGroupByStreamMergeEnabled(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.GROUP_BY_STREAM_MERGE_ENABLED));
+            shardingStatement.setDistinctStreamMergeEnabled(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.DISTINCT_STREAM_MERGE_ENABLED));
+            shardingStatement.setApproximateCountDistinctPrecision(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.COUNT_DISTINCT_APPROXIMATE_PRECISION));
+        }
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(shardingRule, sqlRouteResult, sql, parameters, shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.QUERY_WITH_CIPHER_COLUMN));
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
             result.add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, getLogicAndActualTables(each, sqlRouteResult.getShardingStatement().getTables().getTableNames()))));
@@ -17,15 +17,20 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Sharding engine for prepared query.
@@ -37,12 +42,18 @@ import java.util.List;
  *       for PostgreSQL is Extended Query;
  * </pre>
  * 
+ * <p>
+ * SQL tokens generated by first execution will be reused by following executions, if they are decided by SQL structure only.
+ * </p>
+ * 
  * @author zhangliang
  */
 public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
     private final PreparedStatementRoutingEngine routingEngine;
     
+    private final Map<Boolean, List<SQLToken>> reusableSQLTokens = new ConcurrentHashMap<>(2, 1);
+    
     public PreparedQueryShardingEngine(final String sql, 
                                        final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingSphereMetaData metaData, final SQLParseEngine sqlParseEngine) {
         super(shardingRule, shardingProperties, metaData);
@@ -58,4 +69,20 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(parameters);
     }
+    
+    @Override
+    protected SQLRewriteEngine createSQLRewriteEngine(
+            final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, final String sql, final List<Object> parameters, final boolean isQueryWithCipherColumn) {
+        boolean isSingleRouting = sqlRouteResult.getRoutingResult().isSingleRouting();
+        List<SQLToken> cachedSQLTokens = reusableSQLTokens.get(isSingleRouting);
+        if (null != cachedSQLTokens) {
+            return new SQLRewriteEngine(shardingRule, sqlRouteResult, sql, parameters, cachedSQLTokens);
+        }
+        SQLRewriteEngine result = new SQLRewriteEngine(shardingRule, sqlRouteResult, sql, parameters, isSingleRouting, isQueryWithCipherColumn);
+        Optional<List<SQLToken>> sqlTokens = result.getReusableSQLTokens();
+        if (sqlTokens.isPresent()) {
+            reusableSQLTokens.put(isSingleRouting, sqlTokens.get());
+        }
+        return result;
+    }
 }
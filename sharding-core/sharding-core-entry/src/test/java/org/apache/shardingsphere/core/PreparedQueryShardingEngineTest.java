@@ -21,6 +21,8 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
@@ -32,7 +34,10 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -69,6 +74,20 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
     }
     
+    @Test
+    public void assertShardWithReusableSQLTokens() {
+        List<Object> secondParameters = Collections.<Object>singletonList(2);
+        when(routingEngine.route(getParameters())).thenReturn(createSQLRouteResult());
+        when(routingEngine.route(secondParameters)).thenReturn(createSQLRouteResult());
+        assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
+        SQLRouteResult actual = shardingEngine.shard(getSql(), secondParameters);
+        assertThat(actual.getRouteUnits().size(), is(1));
+        RouteUnit actualRouteUnit = actual.getRouteUnits().iterator().next();
+        assertThat(actualRouteUnit.getDataSourceName(), is("ds"));
+        assertThat(actualRouteUnit.getSqlUnit().getSql(), is(getSql()));
+        assertThat(actualRouteUnit.getSqlUnit().getParameters(), is(secondParameters));
+    }
+    
     @Test(expected = SQLException.class)
     public void assertWithRouteException() {
         when(routingEngine.route(getParameters())).thenThrow(SQLException.class);
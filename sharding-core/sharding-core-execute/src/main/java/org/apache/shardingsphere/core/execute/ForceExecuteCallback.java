@@ -15,7 +15,7 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor;
+package org.apache.shardingsphere.core.execute;
 
 import java.sql.SQLException;
 
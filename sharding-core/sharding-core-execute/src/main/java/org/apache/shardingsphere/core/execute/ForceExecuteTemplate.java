@@ -15,11 +15,14 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor;
+package org.apache.shardingsphere.core.execute;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Force execute template.
@@ -38,15 +41,45 @@ public final class ForceExecuteTemplate<T> {
      * @throws SQLException throw SQL exception after all targets are executed
      */
     public void execute(final Collection<T> targets, final ForceExecuteCallback<T> callback) throws SQLException {
-        Collection<SQLException> exceptions = new LinkedList<>();
+        throwSQLExceptionIfNecessary(forceExecute(targets, callback));
+    }
+    
+    /**
+     * Force execute in parallel.
+     * 
+     * <p>
+     * Targets of same group are executed serially, different groups are executed concurrently by execute engine.
+     * </p>
+     * 
+     * @param executeEngine execute engine
+     * @param groupedTargets targets to be executed, key is group name and value is targets of group
+     * @param callback force execute callback
+     * @throws SQLException throw SQL exception after all targets are executed
+     */
+    public void execute(final ShardingExecuteEngine executeEngine, final Map<String, Collection<T>> groupedTargets, final ForceExecuteCallback<T> callback) throws SQLException {
+        Collection<ShardingExecuteGroup<T>> inputGroups = new LinkedList<>();
+        for (Entry<String, Collection<T>> entry : groupedTargets.entrySet()) {
+            inputGroups.add(new ShardingExecuteGroup<T>(entry.getKey(), new ArrayList<>(entry.getValue())));
+        }
+        throwSQLExceptionIfNecessary(executeEngine.groupExecute(inputGroups, new ShardingGroupExecuteCallback<T, SQLException>() {
+            
+            @Override
+            public Collection<SQLException> execute(final Collection<T> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                return forceExecute(inputs, callback);
+            }
+        }));
+    }
+    
+    private Collection<SQLException> forceExecute(final Collection<T> targets, final ForceExecuteCallback<T> callback) {
+        Collection<SQLException> result = new LinkedList<>();
         for (T each : targets) {
             try {
                 callback.execute(each);
             } catch (final SQLException ex) {
-                exceptions.add(ex);
+                result.add(ex);
             }
         }
-        throwSQLExceptionIfNecessary(exceptions);
+        return result;
     }
     
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
@@ -19,10 +19,10 @@ package org.apache.shardingsphere.core.execute;
 
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListeningExecutorService;
 import org.apache.shardingsphere.core.exception.ShardingException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -41,11 +41,24 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private final ShardingExecutorService shardingExecutorService;
     
-    private ListeningExecutorService executorService;
+    private final ShardingExecuteScheduler scheduler;
     
     public ShardingExecuteEngine(final int executorSize) {
-        shardingExecutorService = new ShardingExecutorService(executorSize);
-        executorService = shardingExecutorService.getExecutorService();
+        this(executorSize, false, 0);
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final boolean workStealing, final int maxConcurrencyPerDataSource) {
+        shardingExecutorService = new ShardingExecutorService(executorSize, workStealing);
+        scheduler = new ShardingExecuteScheduler(shardingExecutorService.getExecutorService(), maxConcurrencyPerDataSource);
+    }
+    
+    /**
+     * Get execute metrics.
+     * 
+     * @return execute metrics
+     */
+    public ShardingExecuteMetrics getMetrics() {
+        return scheduler.getMetrics();
     }
     
     /**
@@ -83,6 +96,25 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
     
+    /**
+     * Execute for group asynchronously.
+     * 
+     * <p>All input groups are submitted to executor, this method returns without waiting for them.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback sharding execute callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return futures of execute results, in the same order of input groups
+     */
+    public <I, O> List<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+        List<ListenableFuture<Collection<O>>> result = new ArrayList<>(inputGroups.size());
+        for (ShardingExecuteGroup<I> each : inputGroups) {
+            result.add(asyncGroupExecute(each, callback));
+        }
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback,
                                          final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
         Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
@@ -102,17 +134,9 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
-        Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
-        for (ShardingExecuteGroup<I> each : inputGroups) {
-            result.add(asyncGroupExecute(each, callback));
-        }
-        return result;
-    }
-    
     private <I, O> ListenableFuture<Collection<O>> asyncGroupExecute(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
         final Map<String, Object> dataMap = ShardingExecuteDataMap.getDataMap();
-        return executorService.submit(new Callable<Collection<O>>() {
+        return scheduler.submit(inputGroup.getDataSourceName(), new Callable<Collection<O>>() {
             
             @Override
             public Collection<O> call() throws SQLException {
@@ -122,7 +146,21 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     }
     
     private <I, O> Collection<O> syncGroupExecute(final ShardingExecuteGroup<I> executeGroup, final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
-        return callback.execute(executeGroup.getInputs(), true, ShardingExecuteDataMap.getDataMap());
+        try {
+            return scheduler.execute(executeGroup.getDataSourceName(), new Callable<Collection<O>>() {
+                
+                @Override
+                public Collection<O> call() throws SQLException {
+                    return callback.execute(executeGroup.getInputs(), true, ShardingExecuteDataMap.getDataMap());
+                }
+            });
+        } catch (final SQLException | RuntimeException ex) {
+            throw ex;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ShardingException(ex);
+        }
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
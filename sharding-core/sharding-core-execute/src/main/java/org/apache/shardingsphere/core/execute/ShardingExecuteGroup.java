@@ -32,5 +32,11 @@ import java.util.List;
 @Getter
 public final class ShardingExecuteGroup<T> {
     
+    private final String dataSourceName;
+    
     private final List<T> inputs;
+    
+    public ShardingExecuteGroup(final List<T> inputs) {
+        this(null, inputs);
+    }
 }
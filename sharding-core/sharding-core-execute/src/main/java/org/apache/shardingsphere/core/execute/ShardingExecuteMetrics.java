@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sharding execute metrics.
+ *
+ * @author agent
+ */
+public final class ShardingExecuteMetrics {
+    
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    
+    private final AtomicLong startedCount = new AtomicLong();
+    
+    private final AtomicLong totalWaitTimeNanos = new AtomicLong();
+    
+    private final AtomicLong maxWaitTimeNanos = new AtomicLong();
+    
+    void onSubmitted() {
+        queueDepth.incrementAndGet();
+    }
+    
+    void onStarted(final long waitTimeNanos) {
+        queueDepth.decrementAndGet();
+        startedCount.incrementAndGet();
+        totalWaitTimeNanos.addAndGet(waitTimeNanos);
+        long currentMax = maxWaitTimeNanos.get();
+        while (waitTimeNanos > currentMax && !maxWaitTimeNanos.compareAndSet(currentMax, waitTimeNanos)) {
+            currentMax = maxWaitTimeNanos.get();
+        }
+    }
+    
+    /**
+     * Get count of execute groups which are submitted but not started.
+     * 
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+    
+    /**
+     * Get count of started execute groups.
+     * 
+     * @return started count
+     */
+    public long getStartedCount() {
+        return startedCount.get();
+    }
+    
+    /**
+     * Get total wait time from submitted to started.
+     * 
+     * @param timeUnit time unit
+     * @return total wait time
+     */
+    public long getTotalWaitTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(totalWaitTimeNanos.get(), TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Get max wait time from submitted to started.
+     * 
+     * @param timeUnit time unit
+     * @return max wait time
+     */
+    public long getMaxWaitTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(maxWaitTimeNanos.get(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Sharding execute scheduler.
+ * 
+ * <p>
+ * Limit concurrent tasks for each data source. Tasks exceed the limit wait in queue of their data source
+ * without occupying worker threads, and will be dispatched when running tasks of the same data source finished.
+ * Tasks executed in caller thread share the same limit and queue.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class ShardingExecuteScheduler {
+    
+    private final ListeningExecutorService executorService;
+    
+    private final int maxConcurrencyPerDataSource;
+    
+    private final ConcurrentMap<String, DataSourceSlot> dataSourceSlots = new ConcurrentHashMap<>();
+    
+    @Getter
+    private final ShardingExecuteMetrics metrics = new ShardingExecuteMetrics();
+    
+    /**
+     * Submit task.
+     * 
+     * @param dataSourceName data source name, task will not be limited if it is {@code null}
+     * @param task task to be submitted
+     * @param <T> type of task result
+     * @return future of task result
+     */
+    public <T> ListenableFuture<T> submit(final String dataSourceName, final Callable<T> task) {
+        metrics.onSubmitted();
+        ScheduledTask<T> scheduledTask = new ScheduledTask<>(task, getDataSourceSlot(dataSourceName), null);
+        if (null == scheduledTask.slot || scheduledTask.slot.tryAcquire(scheduledTask)) {
+            dispatch(scheduledTask);
+        }
+        return scheduledTask.future;
+    }
+    
+    /**
+     * Execute task in current thread.
+     * 
+     * <p>
+     * Current thread takes a slot of data source as submitted tasks do, and waits in queue of data source if the limit is reached.
+     * </p>
+     * 
+     * @param dataSourceName data source name, task will not be limited if it is {@code null}
+     * @param task task to be executed
+     * @param <T> type of task result
+     * @return task result
+     * @throws Exception exception thrown by task
+     */
+    public <T> T execute(final String dataSourceName, final Callable<T> task) throws Exception {
+        metrics.onSubmitted();
+        ScheduledTask<T> scheduledTask = new ScheduledTask<>(task, getDataSourceSlot(dataSourceName), new CountDownLatch(1));
+        if (null != scheduledTask.slot && !scheduledTask.slot.tryAcquire(scheduledTask)) {
+            Uninterruptibles.awaitUninterruptibly(scheduledTask.dispatchedLatch);
+        }
+        metrics.onStarted(System.nanoTime() - scheduledTask.submittedNanos);
+        try {
+            return task.call();
+        } finally {
+            scheduledTask.complete();
+        }
+    }
+    
+    private DataSourceSlot getDataSourceSlot(final String dataSourceName) {
+        if (null == dataSourceName || maxConcurrencyPerDataSource <= 0) {
+            return null;
+        }
+        DataSourceSlot result = dataSourceSlots.get(dataSourceName);
+        if (null == result) {
+            dataSourceSlots.putIfAbsent(dataSourceName, new DataSourceSlot());
+            result = dataSourceSlots.get(dataSourceName);
+        }
+        return result;
+    }
+    
+    private void dispatch(final ScheduledTask<?> scheduledTask) {
+        if (null != scheduledTask.dispatchedLatch) {
+            scheduledTask.dispatchedLatch.countDown();
+            return;
+        }
+        try {
+            executorService.execute(scheduledTask);
+        } catch (final RuntimeException ex) {
+            metrics.onStarted(System.nanoTime() - scheduledTask.submittedNanos);
+            scheduledTask.future.setException(ex);
+            scheduledTask.complete();
+        }
+    }
+    
+    /**
+     * Get count of tasks waiting in queue of data source.
+     * 
+     * @param dataSourceName data source name
+     * @return pending count
+     */
+    public int getPendingCount(final String dataSourceName) {
+        DataSourceSlot slot = dataSourceSlots.get(dataSourceName);
+        return null == slot ? 0 : slot.getPendingCount();
+    }
+    
+    private final class DataSourceSlot {
+        
+        private final Queue<ScheduledTask<?>> pendingTasks = new LinkedList<>();
+        
+        private int runningCount;
+        
+        synchronized boolean tryAcquire(final ScheduledTask<?> scheduledTask) {
+            if (runningCount < maxConcurrencyPerDataSource) {
+                runningCount++;
+                return true;
+            }
+            pendingTasks.offer(scheduledTask);
+            return false;
+        }
+        
+        synchronized ScheduledTask<?> releaseAndPollNext() {
+            ScheduledTask<?> result = pendingTasks.poll();
+            if (null == result) {
+                runningCount--;
+            }
+            return result;
+        }
+        
+        synchronized int getPendingCount() {
+            return pendingTasks.size();
+        }
+    }
+    
+    private final class ScheduledTask<T> implements Runnable {
+        
+        private final Callable<T> task;
+        
+        private final DataSourceSlot slot;
+        
+        private final SettableFuture<T> future = SettableFuture.create();
+        
+        private final long submittedNanos = System.nanoTime();
+        
+        private final CountDownLatch dispatchedLatch;
+        
+        ScheduledTask(final Callable<T> task, final DataSourceSlot slot, final CountDownLatch dispatchedLatch) {
+            this.task = task;
+            this.slot = slot;
+            this.dispatchedLatch = dispatchedLatch;
+        }
+        
+        @Override
+        public void run() {
+            metrics.onStarted(System.nanoTime() - submittedNanos);
+            try {
+                if (!future.isCancelled()) {
+                    future.set(task.call());
+                }
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                future.setException(ex);
+            } finally {
+                complete();
+            }
+        }
+        
+        void complete() {
+            if (null == slot) {
+                return;
+            }
+            ScheduledTask<?> next = slot.releaseAndPollNext();
+            if (null != next) {
+                dispatch(next);
+            }
+        }
+    }
+}
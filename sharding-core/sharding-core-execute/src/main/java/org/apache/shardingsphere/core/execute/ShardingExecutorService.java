@@ -23,6 +23,7 @@ import lombok.Getter;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -46,7 +47,15 @@ public final class ShardingExecutorService {
     }
     
     public ShardingExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final boolean workStealing) {
+        this(executorSize, DEFAULT_NAME_FORMAT, workStealing);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final String nameFormat, final boolean workStealing) {
+        executorService = MoreExecutors.listeningDecorator(workStealing ? getWorkStealingExecutorService(executorSize, nameFormat) : getExecutorService(executorSize, nameFormat));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
@@ -55,6 +64,11 @@ public final class ShardingExecutorService {
         return 0 == executorSize ? Executors.newCachedThreadPool(shardingThreadFactory) : Executors.newFixedThreadPool(executorSize, shardingThreadFactory);
     }
     
+    private ExecutorService getWorkStealingExecutorService(final int executorSize, final String nameFormat) {
+        int parallelism = 0 == executorSize ? Runtime.getRuntime().availableProcessors() * 2 : executorSize;
+        return new ForkJoinPool(parallelism, ShardingThreadFactoryBuilder.buildForkJoinWorkerThreadFactory(nameFormat), null, true);
+    }
+    
     /**
      * Close executor service.
      */
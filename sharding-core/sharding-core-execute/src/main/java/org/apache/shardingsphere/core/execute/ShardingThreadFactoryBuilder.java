@@ -21,7 +21,11 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Sharding thread factory builder.
@@ -53,4 +57,23 @@ public final class ShardingThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build sharding fork join worker thread factory.
+     * 
+     * @param nameFormat thread name format
+     * @return sharding fork join worker thread factory
+     */
+    public static ForkJoinWorkerThreadFactory buildForkJoinWorkerThreadFactory(final String nameFormat) {
+        final AtomicLong count = new AtomicLong();
+        return new ForkJoinWorkerThreadFactory() {
+            
+            @Override
+            public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+                ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+                return result;
+            }
+        };
+    }
 }
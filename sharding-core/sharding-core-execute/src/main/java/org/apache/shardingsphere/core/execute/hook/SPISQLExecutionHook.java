@@ -37,6 +37,15 @@ public final class SPISQLExecutionHook implements SQLExecutionHook {
         NewInstanceServiceLoader.register(SQLExecutionHook.class);
     }
     
+    /**
+     * Judge is SQL execution hooks empty or not.
+     * 
+     * @return is SQL execution hooks empty or not
+     */
+    public boolean isEmpty() {
+        return sqlExecutionHooks.isEmpty();
+    }
+    
     @Override
     public void start(final RouteUnit routeUnit, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
         for (SQLExecutionHook each : sqlExecutionHooks) {
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Table meta data bulk loader.
+ * 
+ * <p>
+ * Load columns, primary keys and indexes of many actual tables with dialect catalog queries,
+ * instead of calling {@code DatabaseMetaData} for each actual table.
+ * Type names of columns are mapped to the same type names as {@code DatabaseMetaData} reports.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public enum TableMetaDataBulkLoader {
+    
+    MYSQL("MySQL",
+            "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, COLUMN_KEY = 'PRI' FROM information_schema.COLUMNS "
+                    + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME, ORDINAL_POSITION",
+            "SELECT DISTINCT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s)"),
+    
+    POSTGRESQL("PostgreSQL",
+            "SELECT c.table_name, c.column_name, c.udt_name, c.column_default, k.column_name IS NOT NULL FROM information_schema.columns c LEFT JOIN "
+                    + "(SELECT kc.table_name, kc.column_name FROM information_schema.table_constraints tc JOIN information_schema.key_column_usage kc "
+                    + "ON tc.constraint_name = kc.constraint_name AND tc.table_schema = kc.table_schema AND tc.table_name = kc.table_name "
+                    + "WHERE tc.constraint_type = 'PRIMARY KEY' AND tc.table_schema = current_schema()) k ON c.table_name = k.table_name AND c.column_name = k.column_name "
+                    + "WHERE c.table_catalog = ? AND c.table_schema = current_schema() AND c.table_name IN (%s) ORDER BY c.table_name, c.ordinal_position",
+            "SELECT tablename, indexname FROM pg_indexes WHERE current_database() = ? AND schemaname = current_schema() AND tablename IN (%s)");
+    
+    private static final int MAX_TABLE_NAMES_PER_QUERY = 1000;
+    
+    private final String databaseProductName;
+    
+    private final String columnsSQLTemplate;
+    
+    private final String indexesSQLTemplate;
+    
+    /**
+     * Find table meta data bulk loader via database product name.
+     * 
+     * @param databaseProductName database product name
+     * @return table meta data bulk loader
+     */
+    public static Optional<TableMetaDataBulkLoader> findByDatabaseProductName(final String databaseProductName) {
+        for (TableMetaDataBulkLoader each : values()) {
+            if (each.databaseProductName.equals(databaseProductName)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    /**
+     * Load table meta data of actual tables.
+     * 
+     * <p>
+     * Columns and indexes are actual ones, not existed tables are absent in result.
+     * </p>
+     * 
+     * @param connection connection
+     * @param catalog catalog
+     * @param actualTableNames actual table names
+     * @return table meta data map, key is actual table name and case insensitive
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Connection connection, final String catalog, final Collection<String> actualTableNames) throws SQLException {
+        Map<String, Collection<ColumnMetaData>> columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, Collection<String>> indexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (List<String> each : Lists.partition(new ArrayList<>(actualTableNames), MAX_TABLE_NAMES_PER_QUERY)) {
+            loadColumns(connection, catalog, each, columns);
+            loadIndexes(connection, catalog, each, indexes);
+        }
+        Map<String, TableMetaData> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Entry<String, Collection<ColumnMetaData>> entry : columns.entrySet()) {
+            Collection<String> tableIndexes = indexes.get(entry.getKey());
+            result.put(entry.getKey(), new TableMetaData(entry.getValue(), null == tableIndexes ? Collections.<String>emptyList() : tableIndexes));
+        }
+        return result;
+    }
+    
+    private void loadColumns(final Connection connection, final String catalog, final List<String> actualTableNames, final Map<String, Collection<ColumnMetaData>> columns) throws SQLException {
+        try (PreparedStatement preparedStatement = prepareStatement(connection, columnsSQLTemplate, catalog, actualTableNames);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString(1);
+                if (!columns.containsKey(tableName)) {
+                    columns.put(tableName, new LinkedList<ColumnMetaData>());
+                }
+                columns.get(tableName).add(new ColumnMetaData(resultSet.getString(2), getTypeName(resultSet.getString(3), resultSet.getString(4)), resultSet.getBoolean(5)));
+            }
+        }
+    }
+    
+    private String getTypeName(final String dataType, final String typeDetail) {
+        return MYSQL == this ? getMySQLTypeName(dataType, typeDetail) : getPostgreSQLTypeName(dataType, typeDetail);
+    }
+    
+    private String getMySQLTypeName(final String dataType, final String columnType) {
+        String result = dataType.toUpperCase();
+        return null != columnType && columnType.toLowerCase().contains(" unsigned") ? result + " UNSIGNED" : result;
+    }
+    
+    private String getPostgreSQLTypeName(final String udtName, final String columnDefault) {
+        if (null == columnDefault || !columnDefault.contains("nextval(")) {
+            return udtName;
+        }
+        if ("int4".equals(udtName)) {
+            return "serial";
+        }
+        if ("int8".equals(udtName)) {
+            return "bigserial";
+        }
+        return "int2".equals(udtName) ? "smallserial" : udtName;
+    }
+    
+    private void loadIndexes(final Connection connection, final String catalog, final List<String> actualTableNames, final Map<String, Collection<String>> indexes) throws SQLException {
+        try (PreparedStatement preparedStatement = prepareStatement(connection, indexesSQLTemplate, catalog, actualTableNames);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString(1);
+                if (!indexes.containsKey(tableName)) {
+                    indexes.put(tableName, new LinkedHashSet<String>());
+                }
+                indexes.get(tableName).add(resultSet.getString(2));
+            }
+        }
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sqlTemplate, final String catalog, final List<String> actualTableNames) throws SQLException {
+        PreparedStatement result = connection.prepareStatement(String.format(sqlTemplate, Joiner.on(", ").join(Collections.nCopies(actualTableNames.size(), "?"))));
+        result.setString(1, catalog);
+        int parameterIndex = 2;
+        for (String each : actualTableNames) {
+            result.setString(parameterIndex++, each);
+        }
+        return result;
+    }
+}
@@ -40,7 +40,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -92,20 +95,159 @@ public final class TableMetaDataLoader {
             @Override
             public Collection<TableMetaData> execute(final Collection<DataNode> dataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
                 String dataSourceName = dataNodes.iterator().next().getDataSourceName();
-                DataSourceMetaData dataSourceMetaData = TableMetaDataLoader.this.dataSourceMetas.getDataSourceMetaData(dataSourceName);
-                String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
                 return load(shardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(dataSourceName), 
-                        catalog, logicTableName, dataNodes, generateKeyColumnName, shardingRule.getEncryptRule());
+                        getCatalog(dataSourceName), logicTableName, dataNodes, generateKeyColumnName, shardingRule.getEncryptRule());
             }
         });
     }
     
+    /**
+     * Load table meta data of logic tables.
+     * 
+     * <p>
+     * Actual tables of all logic tables in same data source are loaded with one connection, and with one bulk query if the database supports.
+     * </p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return table meta data map, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        Map<String, List<TableMetaData>> actualTableMetaDataMap = new LinkedHashMap<>(logicTableNames.size(), 1);
+        for (Map<String, Collection<TableMetaData>> each : executeEngine.groupExecute(getDataSourceExecuteGroups(logicTableNames, shardingRule), 
+                new ShardingGroupExecuteCallback<DataNode, Map<String, Collection<TableMetaData>>>() {
+                    
+                    @Override
+                    public Collection<Map<String, Collection<TableMetaData>>> execute(
+                            final Collection<DataNode> dataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                        return Collections.singletonList(load(dataNodes.iterator().next().getDataSourceName(), logicTableNames, shardingRule));
+                    }
+                })) {
+            for (Entry<String, Collection<TableMetaData>> entry : each.entrySet()) {
+                if (!actualTableMetaDataMap.containsKey(entry.getKey())) {
+                    actualTableMetaDataMap.put(entry.getKey(), new LinkedList<TableMetaData>());
+                }
+                actualTableMetaDataMap.get(entry.getKey()).addAll(entry.getValue());
+            }
+        }
+        Map<String, TableMetaData> result = new HashMap<>(actualTableMetaDataMap.size(), 1);
+        for (Entry<String, List<TableMetaData>> entry : actualTableMetaDataMap.entrySet()) {
+            checkUniformed(entry.getKey(), entry.getValue());
+            result.put(entry.getKey(), entry.getValue().iterator().next());
+        }
+        return result;
+    }
+    
+    private Collection<ShardingExecuteGroup<DataNode>> getDataSourceExecuteGroups(final Collection<String> logicTableNames, final ShardingRule shardingRule) {
+        Map<String, List<DataNode>> dataNodeGroups = new LinkedHashMap<>();
+        for (String each : logicTableNames) {
+            for (Entry<String, List<DataNode>> entry : getDataNodeGroups(shardingRule.getTableRule(each)).entrySet()) {
+                if (!dataNodeGroups.containsKey(entry.getKey())) {
+                    dataNodeGroups.put(entry.getKey(), new LinkedList<DataNode>());
+                }
+                dataNodeGroups.get(entry.getKey()).addAll(entry.getValue());
+            }
+        }
+        Collection<ShardingExecuteGroup<DataNode>> result = new LinkedList<>();
+        for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
+            result.add(new ShardingExecuteGroup<>(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<TableMetaData>> load(final String dataSourceName, final Collection<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        Map<String, List<DataNode>> dataNodes = new LinkedHashMap<>(logicTableNames.size(), 1);
+        for (String each : logicTableNames) {
+            List<DataNode> logicTableDataNodes = getDataNodeGroups(shardingRule.getTableRule(each)).get(dataSourceName);
+            if (null != logicTableDataNodes) {
+                dataNodes.put(each, logicTableDataNodes);
+            }
+        }
+        Map<String, Collection<TableMetaData>> result = new LinkedHashMap<>(dataNodes.size(), 1);
+        String catalog = getCatalog(dataSourceName);
+        try (Connection connection = connectionManager.getConnection(shardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(dataSourceName))) {
+            Optional<TableMetaDataBulkLoader> bulkLoader = findBulkLoader(connection, catalog);
+            Map<String, TableMetaData> actualTableMetaDataMap = bulkLoader.isPresent() 
+                    ? bulkLoader.get().load(connection, catalog, getActualTableNames(dataNodes.values())) : Collections.<String, TableMetaData>emptyMap();
+            for (Entry<String, List<DataNode>> entry : dataNodes.entrySet()) {
+                String generateKeyColumnName = shardingRule.findGenerateKeyColumnName(entry.getKey()).orNull();
+                result.put(entry.getKey(), bulkLoader.isPresent()
+                        ? createTableMetaDataList(actualTableMetaDataMap, entry.getKey(), entry.getValue(), generateKeyColumnName, shardingRule.getEncryptRule())
+                        : createTableMetaDataList(connection, catalog, entry.getKey(), entry.getValue(), generateKeyColumnName, shardingRule.getEncryptRule()));
+            }
+        }
+        return result;
+    }
+    
+    private String getCatalog(final String dataSourceName) {
+        DataSourceMetaData dataSourceMetaData = dataSourceMetas.getDataSourceMetaData(dataSourceName);
+        return null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
+    }
+    
+    private Optional<TableMetaDataBulkLoader> findBulkLoader(final Connection connection, final String catalog) throws SQLException {
+        return null == catalog ? Optional.<TableMetaDataBulkLoader>absent() : TableMetaDataBulkLoader.findByDatabaseProductName(connection.getMetaData().getDatabaseProductName());
+    }
+    
     private Collection<TableMetaData> load(final String dataSourceName, final String catalog, 
                                            final String logicTableName, final Collection<DataNode> dataNodes, final String generateKeyColumnName, final EncryptRule encryptRule) throws SQLException {
-        Collection<TableMetaData> result = new LinkedList<>();
         try (Connection connection = connectionManager.getConnection(dataSourceName)) {
-            for (DataNode each : dataNodes) {
-                result.add(createTableMetaData(connection, catalog, logicTableName, each.getTableName(), generateKeyColumnName, encryptRule));
+            Optional<TableMetaDataBulkLoader> bulkLoader = findBulkLoader(connection, catalog);
+            return bulkLoader.isPresent()
+                    ? createTableMetaDataList(bulkLoader.get().load(connection, catalog, getActualTableNames(Collections.singletonList(dataNodes))), 
+                    logicTableName, dataNodes, generateKeyColumnName, encryptRule)
+                    : createTableMetaDataList(connection, catalog, logicTableName, dataNodes, generateKeyColumnName, encryptRule);
+        }
+    }
+    
+    private Collection<TableMetaData> createTableMetaDataList(final Connection connection, final String catalog, 
+                                                              final String logicTableName, final Collection<DataNode> dataNodes, final String generateKeyColumnName, final EncryptRule encryptRule) throws SQLException {
+        Collection<TableMetaData> result = new LinkedList<>();
+        for (DataNode each : dataNodes) {
+            result.add(createTableMetaData(connection, catalog, logicTableName, each.getTableName(), generateKeyColumnName, encryptRule));
+        }
+        return result;
+    }
+    
+    private Collection<String> getActualTableNames(final Collection<? extends Collection<DataNode>> dataNodeGroups) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (Collection<DataNode> each : dataNodeGroups) {
+            for (DataNode dataNode : each) {
+                result.add(dataNode.getTableName());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<TableMetaData> createTableMetaDataList(final Map<String, TableMetaData> actualTableMetaDataMap, 
+                                                              final String logicTableName, final Collection<DataNode> dataNodes, final String generateKeyColumnName, final EncryptRule encryptRule) {
+        Collection<TableMetaData> result = new LinkedList<>();
+        Collection<String> derivedColumns = encryptRule.getAssistedQueryAndPlainColumns(logicTableName);
+        for (DataNode each : dataNodes) {
+            TableMetaData actualTableMetaData = actualTableMetaDataMap.get(each.getTableName());
+            if (null == actualTableMetaData) {
+                result.add(new TableMetaData(Collections.<ColumnMetaData>emptyList(), Collections.<String>emptySet()));
+                continue;
+            }
+            Collection<ColumnMetaData> columnMetaDataList = new LinkedList<>();
+            for (ColumnMetaData column : actualTableMetaData.getColumns().values()) {
+                Optional<ColumnMetaData> columnMetaData = getColumnMetaData(
+                        logicTableName, column.getName(), column.getDataType(), column.isPrimaryKey(), generateKeyColumnName, encryptRule, derivedColumns);
+                if (columnMetaData.isPresent()) {
+                    columnMetaDataList.add(columnMetaData.get());
+                }
+            }
+            result.add(new TableMetaData(columnMetaDataList, getLogicIndexes(actualTableMetaData.getIndexes(), each.getTableName())));
+        }
+        return result;
+    }
+    
+    private Collection<String> getLogicIndexes(final Collection<String> actualIndexNames, final String actualTableName) {
+        Collection<String> result = new HashSet<>();
+        for (String each : actualIndexNames) {
+            Optional<String> logicIndex = getLogicIndex(each, actualTableName);
+            if (logicIndex.isPresent()) {
+                result.add(logicIndex.get());
             }
         }
         return result;
@@ -123,15 +265,15 @@ public final class TableMetaDataLoader {
     private Collection<ShardingExecuteGroup<DataNode>> getDataNodeExecuteGroups(final Map<String, List<DataNode>> dataNodeGroups) {
         Collection<ShardingExecuteGroup<DataNode>> result = new LinkedList<>();
         for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
-            result.addAll(getDataNodeExecuteGroups(entry.getValue()));
+            result.addAll(getDataNodeExecuteGroups(entry.getKey(), entry.getValue()));
         }
         return result;
     }
     
-    private Collection<ShardingExecuteGroup<DataNode>> getDataNodeExecuteGroups(final List<DataNode> dataNodes) {
+    private Collection<ShardingExecuteGroup<DataNode>> getDataNodeExecuteGroups(final String dataSourceName, final List<DataNode> dataNodes) {
         Collection<ShardingExecuteGroup<DataNode>> result = new LinkedList<>();
         for (List<DataNode> each : Lists.partition(dataNodes, Math.max(dataNodes.size() / maxConnectionsSizePerQuery, 1))) {
-            result.add(new ShardingExecuteGroup<>(each));
+            result.add(new ShardingExecuteGroup<>(dataSourceName, each));
         }
         return result;
     }
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.column.EncryptColumnMetaData;
+import org.apache.shardingsphere.core.metadata.column.ShardingGeneratedKeyColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.CRC32;
+
+/**
+ * Table meta data snapshot.
+ * 
+ * <p>
+ * Snapshot is persisted with version, fingerprint of configuration and checksum of content,
+ * it will be ignored if any of them mismatches.
+ * </p>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class TableMetaDataSnapshot {
+    
+    private static final int MAGIC_NUMBER = 0x53534d44;
+    
+    private static final int VERSION = 1;
+    
+    private static final byte COLUMN = 0;
+    
+    private static final byte SHARDING_GENERATED_KEY_COLUMN = 1;
+    
+    private static final byte ENCRYPT_COLUMN = 2;
+    
+    private final File file;
+    
+    private final String fingerprint;
+    
+    public TableMetaDataSnapshot(final File file, final String configuration) {
+        this.file = file;
+        fingerprint = Hashing.sha256().hashString(configuration, Charsets.UTF_8).toString();
+    }
+    
+    /**
+     * Load table meta data from snapshot.
+     * 
+     * @return table meta data map, absent if snapshot is not existed or invalid
+     */
+    public Optional<Map<String, TableMetaData>> load() {
+        if (!file.isFile()) {
+            return Optional.absent();
+        }
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (MAGIC_NUMBER != inputStream.readInt() || VERSION != inputStream.readInt() || !fingerprint.equals(inputStream.readUTF())) {
+                return Optional.absent();
+            }
+            long checksum = inputStream.readLong();
+            byte[] content = new byte[inputStream.readInt()];
+            inputStream.readFully(content);
+            if (checksum != getChecksum(content)) {
+                log.warn("Checksum of table meta data snapshot `{}` mismatches, snapshot is ignored.", file);
+                return Optional.absent();
+            }
+            return Optional.of(readTables(new DataInputStream(new ByteArrayInputStream(content))));
+        } catch (final IOException ex) {
+            log.warn("Cannot load table meta data snapshot `{}`, snapshot is ignored.", file, ex);
+            return Optional.absent();
+        }
+    }
+    
+    /**
+     * Save table meta data into snapshot.
+     * 
+     * @param tables table meta data map
+     */
+    public void save(final Map<String, TableMetaData> tables) {
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            try (DataOutputStream contentOutputStream = new DataOutputStream(content)) {
+                writeTables(contentOutputStream, tables);
+            }
+            byte[] contentBytes = content.toByteArray();
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                outputStream.writeInt(MAGIC_NUMBER);
+                outputStream.writeInt(VERSION);
+                outputStream.writeUTF(fingerprint);
+                outputStream.writeLong(getChecksum(contentBytes));
+                outputStream.writeInt(contentBytes.length);
+                outputStream.write(contentBytes);
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException ex) {
+            log.warn("Cannot save table meta data snapshot `{}`.", file, ex);
+        }
+    }
+    
+    private long getChecksum(final byte[] content) {
+        CRC32 result = new CRC32();
+        result.update(content);
+        return result.getValue();
+    }
+    
+    private void writeTables(final DataOutputStream outputStream, final Map<String, TableMetaData> tables) throws IOException {
+        outputStream.writeInt(tables.size());
+        for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+            outputStream.writeUTF(entry.getKey());
+            Collection<ColumnMetaData> columns = new ArrayList<>(entry.getValue().getColumns().values());
+            outputStream.writeInt(columns.size());
+            for (ColumnMetaData each : columns) {
+                writeColumn(outputStream, each);
+            }
+            Collection<String> indexes = entry.getValue().getIndexes();
+            outputStream.writeInt(indexes.size());
+            for (String each : indexes) {
+                outputStream.writeUTF(each);
+            }
+        }
+    }
+    
+    private void writeColumn(final DataOutputStream outputStream, final ColumnMetaData column) throws IOException {
+        if (column instanceof EncryptColumnMetaData) {
+            outputStream.writeByte(ENCRYPT_COLUMN);
+        } else if (column instanceof ShardingGeneratedKeyColumnMetaData) {
+            outputStream.writeByte(SHARDING_GENERATED_KEY_COLUMN);
+        } else {
+            outputStream.writeByte(COLUMN);
+        }
+        outputStream.writeUTF(column.getName());
+        writeNullableString(outputStream, column.getDataType());
+        outputStream.writeBoolean(column.isPrimaryKey());
+        if (column instanceof EncryptColumnMetaData) {
+            EncryptColumnMetaData encryptColumn = (EncryptColumnMetaData) column;
+            writeNullableString(outputStream, encryptColumn.getCipherColumnName());
+            writeNullableString(outputStream, encryptColumn.getPlainColumnName());
+            writeNullableString(outputStream, encryptColumn.getAssistedQueryColumnName());
+        }
+    }
+    
+    private void writeNullableString(final DataOutputStream outputStream, final String value) throws IOException {
+        outputStream.writeBoolean(null != value);
+        if (null != value) {
+            outputStream.writeUTF(value);
+        }
+    }
+    
+    private Map<String, TableMetaData> readTables(final DataInputStream inputStream) throws IOException {
+        int tableCount = inputStream.readInt();
+        Map<String, TableMetaData> result = new HashMap<>(tableCount, 1);
+        for (int i = 0; i < tableCount; i++) {
+            String tableName = inputStream.readUTF();
+            int columnCount = inputStream.readInt();
+            Collection<ColumnMetaData> columns = new ArrayList<>(columnCount);
+            for (int j = 0; j < columnCount; j++) {
+                columns.add(readColumn(inputStream));
+            }
+            int indexCount = inputStream.readInt();
+            Collection<String> indexes = new LinkedHashSet<>(indexCount, 1);
+            for (int j = 0; j < indexCount; j++) {
+                indexes.add(inputStream.readUTF());
+            }
+            result.put(tableName, new TableMetaData(columns, indexes));
+        }
+        return result;
+    }
+    
+    private ColumnMetaData readColumn(final DataInputStream inputStream) throws IOException {
+        byte columnType = inputStream.readByte();
+        String name = inputStream.readUTF();
+        String dataType = readNullableString(inputStream);
+        boolean primaryKey = inputStream.readBoolean();
+        switch (columnType) {
+            case ENCRYPT_COLUMN:
+                return new EncryptColumnMetaData(name, dataType, primaryKey, readNullableString(inputStream), readNullableString(inputStream), readNullableString(inputStream));
+            case SHARDING_GENERATED_KEY_COLUMN:
+                return new ShardingGeneratedKeyColumnMetaData(name, dataType, primaryKey);
+            default:
+                return new ColumnMetaData(name, dataType, primaryKey);
+        }
+    }
+    
+    private String readNullableString(final DataInputStream inputStream) throws IOException {
+        return inputStream.readBoolean() ? inputStream.readUTF() : null;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
+import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
+import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.RandomAccess;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * SQL execute results in completion order of execute groups.
+ *
+ * <p>
+ * Getting a result only waits for the execute groups before it, so results of fast groups can be merged while slow groups are still executing.
+ * Closing cancels statements of the groups which are not completed, and waits for them to finish.
+ * </p>
+ *
+ * @author agent
+ *
+ * @param <T> class type of result
+ */
+public final class CompletionOrderExecuteResults<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+    
+    private final Map<ListenableFuture<Collection<T>>, ShardingExecuteGroup<StatementExecuteUnit>> executeGroups;
+    
+    private final BlockingQueue<ListenableFuture<Collection<T>>> completedFutures = new LinkedBlockingQueue<>();
+    
+    private final List<T> results;
+    
+    private final int size;
+    
+    private volatile boolean closed;
+    
+    private SQLException failure;
+    
+    CompletionOrderExecuteResults(final ShardingExecuteEngine executeEngine, final List<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups, final SQLExecuteCallback<T> callback) {
+        List<ListenableFuture<Collection<T>>> futures = executeEngine.asyncGroupExecute(sqlExecuteGroups, new CancellableSQLExecuteCallback(callback));
+        executeGroups = new LinkedHashMap<>(futures.size(), 1);
+        int unitsCount = 0;
+        Iterator<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroupsIterator = sqlExecuteGroups.iterator();
+        for (final ListenableFuture<Collection<T>> each : futures) {
+            ShardingExecuteGroup<StatementExecuteUnit> sqlExecuteGroup = sqlExecuteGroupsIterator.next();
+            executeGroups.put(each, sqlExecuteGroup);
+            unitsCount += sqlExecuteGroup.getInputs().size();
+            each.addListener(new Runnable() {
+                
+                @Override
+                public void run() {
+                    completedFutures.offer(each);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+        results = new ArrayList<>(unitsCount);
+        size = unitsCount;
+    }
+    
+    @Override
+    public T get(final int index) {
+        try {
+            return getResult(index);
+        } catch (final SQLException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+    
+    /**
+     * Get result.
+     *
+     * <p>Wait until enough execute groups completed.</p>
+     *
+     * @param index index of result in completion order
+     * @return result
+     * @throws SQLException SQL exception of failed execute group
+     */
+    public synchronized T getResult(final int index) throws SQLException {
+        Preconditions.checkElementIndex(index, size);
+        if (null != failure) {
+            throw failure;
+        }
+        while (results.size() <= index) {
+            results.addAll(takeCompletedResults());
+        }
+        return results.get(index);
+    }
+    
+    private Collection<T> takeCompletedResults() throws SQLException {
+        try {
+            return Uninterruptibles.getUninterruptibly(Uninterruptibles.takeUninterruptibly(completedFutures));
+        } catch (final ExecutionException ex) {
+            failure = ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+            throw failure;
+        }
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        for (Entry<ListenableFuture<Collection<T>>, ShardingExecuteGroup<StatementExecuteUnit>> entry : executeGroups.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                for (StatementExecuteUnit each : entry.getValue().getInputs()) {
+                    cancel(each.getStatement());
+                }
+            }
+        }
+        for (ListenableFuture<Collection<T>> each : executeGroups.keySet()) {
+            try {
+                Uninterruptibles.getUninterruptibly(each);
+            } catch (final ExecutionException ignored) {
+            }
+        }
+    }
+    
+    private void cancel(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    private final class CancellableSQLExecuteCallback implements ShardingGroupExecuteCallback<StatementExecuteUnit, T> {
+        
+        private final SQLExecuteCallback<T> callback;
+        
+        CancellableSQLExecuteCallback(final SQLExecuteCallback<T> callback) {
+            this.callback = callback;
+        }
+        
+        @Override
+        public Collection<T> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+            Collection<T> result = new LinkedList<>();
+            for (StatementExecuteUnit each : inputs) {
+                if (closed) {
+                    throw new SQLException("Execute results have been closed.");
+                }
+                result.addAll(callback.execute(Collections.singletonList(each), isTrunkThread, shardingExecuteDataMap));
+            }
+            return result;
+        }
+    }
+}
@@ -17,12 +17,13 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.hook.SPISQLExecutionHook;
-import org.apache.shardingsphere.core.execute.hook.SQLExecutionHook;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
@@ -45,6 +46,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallback<StatementExecuteUnit, T> {
     
+    private static final long CACHED_DATA_SOURCE_METADATA_MAXIMUM_SIZE = 1024L;
+    
+    private static final Cache<String, DataSourceMetaData> CACHED_DATA_SOURCE_METADATA = CacheBuilder.newBuilder().maximumSize(CACHED_DATA_SOURCE_METADATA_MAXIMUM_SIZE).build();
+    
     private final DatabaseType databaseType;
     
     private final boolean isExceptionThrown;
@@ -61,8 +66,8 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
     
     private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData().getURL());
-        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        SPISQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        DataSourceMetaData dataSourceMetaData = sqlExecutionHook.isEmpty() ? null : getDataSourceMetaData(statementExecuteUnit.getStatement());
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
             T result = executeSQL(statementExecuteUnit.getRouteUnit(), statementExecuteUnit.getStatement(), statementExecuteUnit.getConnectionMode());
@@ -75,5 +80,15 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
         }
     }
     
+    private DataSourceMetaData getDataSourceMetaData(final Statement statement) throws SQLException {
+        String url = statement.getConnection().getMetaData().getURL();
+        DataSourceMetaData result = CACHED_DATA_SOURCE_METADATA.getIfPresent(url);
+        if (null == result) {
+            result = databaseType.getDataSourceMetaData(url);
+            CACHED_DATA_SOURCE_METADATA.put(url, result);
+        }
+        return result;
+    }
+    
     protected abstract T executeSQL(RouteUnit routeUnit, Statement statement, ConnectionMode connectionMode) throws SQLException;
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -76,4 +77,19 @@ public final class SQLExecuteTemplate {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute group asynchronously.
+     *
+     * <p>All groups are executed in executor, results are listed in completion order of groups. It should not be used if execute in serial.</p>
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return execute results in completion order of groups
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletionOrderExecuteResults<T> asyncExecuteGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, final SQLExecuteCallback<T> callback) {
+        return new CompletionOrderExecuteResults<>(executeEngine, new ArrayList<ShardingExecuteGroup<StatementExecuteUnit>>((Collection) sqlExecuteGroups), callback);
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.column;
+
+import com.google.common.base.Preconditions;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Abstract column vector.
+ *
+ * @author agent
+ */
+public abstract class AbstractColumnVector implements ColumnVector {
+    
+    protected static final int DEFAULT_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    @Override
+    public final void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        ensureCapacity(size + 1);
+        loadValue(resultSet, columnIndex, size);
+        if (resultSet.wasNull()) {
+            nulls.set(size);
+        }
+        size++;
+    }
+    
+    @Override
+    public final Object get(final int rowIndex) {
+        Preconditions.checkElementIndex(rowIndex, size);
+        return nulls.get(rowIndex) ? null : getValue(rowIndex);
+    }
+    
+    @Override
+    public final int size() {
+        return size;
+    }
+    
+    protected final int getNewCapacity(final int capacity, final int minCapacity) {
+        return Math.max(capacity + (capacity >> 1), minCapacity);
+    }
+    
+    protected abstract void ensureCapacity(int minCapacity);
+    
+    protected abstract void loadValue(ResultSet resultSet, int columnIndex, int rowIndex) throws SQLException;
+    
+    protected abstract Object getValue(int rowIndex);
+}
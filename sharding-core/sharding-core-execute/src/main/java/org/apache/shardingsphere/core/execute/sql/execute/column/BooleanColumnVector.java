@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Column vector for boolean values.
+ *
+ * @author agent
+ */
+public final class BooleanColumnVector extends AbstractColumnVector {
+    
+    private final BitSet values = new BitSet();
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+    }
+    
+    @Override
+    protected void loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        if (resultSet.getBoolean(columnIndex)) {
+            values.set(rowIndex);
+        }
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return values.get(rowIndex);
+    }
+}
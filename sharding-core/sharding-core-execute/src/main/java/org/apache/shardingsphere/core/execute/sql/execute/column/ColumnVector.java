@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Column vector which stores values of one column for memory loading.
+ *
+ * @author agent
+ */
+public interface ColumnVector {
+    
+    /**
+     * Load value of current row from result set and append it.
+     * 
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    void load(ResultSet resultSet, int columnIndex) throws SQLException;
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return {@code null} if the value is SQL {@code NULL}, otherwise the value
+     */
+    Object get(int rowIndex);
+    
+    /**
+     * Get count of loaded values.
+     * 
+     * @return count of loaded values
+     */
+    int size();
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Column vector for string values.
+ * 
+ * <p>
+ * Strings are dictionary encoded, so repeated values are stored once and each row only keeps an int code.
+ * If the dictionary grows too large, the column falls back to plain string storage.
+ * </p>
+ *
+ * @author agent
+ */
+public final class StringColumnVector extends AbstractColumnVector {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private Map<String, Integer> dictionary = new HashMap<>();
+    
+    private String[] dictionaryValues = new String[DEFAULT_CAPACITY];
+    
+    private int[] codes = new int[DEFAULT_CAPACITY];
+    
+    private String[] values;
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        if (null != values) {
+            if (minCapacity > values.length) {
+                values = Arrays.copyOf(values, getNewCapacity(values.length, minCapacity));
+            }
+            return;
+        }
+        if (minCapacity > codes.length) {
+            codes = Arrays.copyOf(codes, getNewCapacity(codes.length, minCapacity));
+        }
+    }
+    
+    @Override
+    protected void loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (null != values) {
+            values[rowIndex] = value;
+            return;
+        }
+        if (null == value) {
+            codes[rowIndex] = -1;
+            return;
+        }
+        Integer code = dictionary.get(value);
+        if (null == code) {
+            if (dictionary.size() >= MAX_DICTIONARY_SIZE) {
+                decodeToPlainValues(rowIndex);
+                values[rowIndex] = value;
+                return;
+            }
+            code = dictionary.size();
+            dictionary.put(value, code);
+            if (code >= dictionaryValues.length) {
+                dictionaryValues = Arrays.copyOf(dictionaryValues, getNewCapacity(dictionaryValues.length, code + 1));
+            }
+            dictionaryValues[code] = value;
+        }
+        codes[rowIndex] = code;
+    }
+    
+    private void decodeToPlainValues(final int rowIndex) {
+        values = new String[codes.length];
+        for (int i = 0; i < rowIndex; i++) {
+            values[i] = -1 == codes[i] ? null : dictionaryValues[codes[i]];
+        }
+        dictionary = null;
+        dictionaryValues = null;
+        codes = null;
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        if (null != values) {
+            return values[rowIndex];
+        }
+        return -1 == codes[rowIndex] ? null : dictionaryValues[codes[rowIndex]];
+    }
+}
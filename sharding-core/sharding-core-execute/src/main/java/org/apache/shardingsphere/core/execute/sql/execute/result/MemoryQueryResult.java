@@ -21,9 +21,11 @@ import com.google.common.base.Optional;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
-import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.execute.sql.execute.column.ColumnVector;
+import org.apache.shardingsphere.core.execute.sql.execute.column.ColumnVectorFactory;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptors;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
 import java.io.ByteArrayInputStream;
@@ -31,13 +33,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
@@ -48,78 +46,92 @@ import java.util.List;
  */
 public final class MemoryQueryResult implements QueryResult {
     
-    private final Iterator<QueryRow> resultData;
+    private final ColumnVector[] columns;
     
-    private QueryRow currentRow;
+    private final int rowCount;
+    
+    private final Object[][] decryptedColumns;
+    
+    private int currentRowIndex = -1;
 
     @Getter
     private final QueryResultMetaData queryResultMetaData;
     
     public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule, final ShardingProperties properties) throws SQLException {
-        resultData = getResultData(resultSet);
+        columns = loadColumns(resultSet);
+        rowCount = 0 == columns.length ? 0 : columns[0].size();
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule, properties);
+        decryptedColumns = new Object[columns.length][];
     }
     
     public MemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule, final ShardingProperties properties) throws SQLException {
-        resultData = getResultData(resultSet);
+        columns = loadColumns(resultSet);
+        rowCount = 0 == columns.length ? 0 : columns[0].size();
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData(), encryptRule, properties);
+        decryptedColumns = new Object[columns.length][];
     }
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        resultData = getResultData(resultSet);
+        columns = loadColumns(resultSet);
+        rowCount = 0 == columns.length ? 0 : columns[0].size();
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData());
+        decryptedColumns = new Object[columns.length][];
     }
         
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) throws SQLException {
-        Collection<QueryRow> result = new LinkedList<>();
+    private ColumnVector[] loadColumns(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        ColumnVector[] result = new ColumnVector[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ColumnVectorFactory.newInstance(metaData.getColumnType(i + 1));
+        }
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(QueryResultUtil.getValue(resultSet, columnIndex));
+            for (int i = 0; i < result.length; i++) {
+                result[i].load(resultSet, i + 1);
             }
-            result.add(new QueryRow(rowData));
         }
-        return result.iterator();
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
-            return true;
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
         }
-        currentRow = null;
-        return false;
+        return currentRowIndex < rowCount;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        return decrypt(columnIndex, currentRow.getValue(columnIndex));
+        return getDecryptedValue(columnIndex);
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
-        return decrypt(columnLabel, currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel)));
+        return getDecryptedValue(queryResultMetaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getValue(columnIndex);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel));
+        return getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getValue(columnIndex));
+        return getInputStream(getCurrentValue(columnIndex));
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return getInputStream(currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel)));
+        return getInputStream(getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel)));
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        return columns[columnIndex - 1].get(currentRowIndex);
     }
     
     @SneakyThrows
@@ -134,7 +146,7 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return currentRowIndex < 0 || currentRowIndex >= rowCount;
     }
     
     @Override
@@ -152,13 +164,28 @@ public final class MemoryQueryResult implements QueryResult {
         return queryResultMetaData.getColumnLabel(columnIndex);
     }
     
-    private Object decrypt(final String columnLabel, final Object value) throws SQLException {
-        return decrypt(queryResultMetaData.getColumnIndex(columnLabel), value);
+    private Object getDecryptedValue(final int columnIndex) throws SQLException {
+        if (!queryResultMetaData.isQueryWithCipherColumn()) {
+            return getCurrentValue(columnIndex);
+        }
+        Object[] decryptedColumn = decryptedColumns[columnIndex - 1];
+        if (null == decryptedColumn) {
+            Optional<ShardingEncryptor> shardingEncryptor = queryResultMetaData.getShardingEncryptor(columnIndex);
+            if (!shardingEncryptor.isPresent()) {
+                return getCurrentValue(columnIndex);
+            }
+            decryptedColumn = decrypt(shardingEncryptor.get(), columns[columnIndex - 1]);
+            decryptedColumns[columnIndex - 1] = decryptedColumn;
+        }
+        return decryptedColumn[currentRowIndex];
     }
     
-    private Object decrypt(final int columnIndex, final Object value) throws SQLException {
-        Optional<ShardingEncryptor> shardingEncryptor = queryResultMetaData.getShardingEncryptor(columnIndex);
-        return queryResultMetaData.isQueryWithCipherColumn() && shardingEncryptor.isPresent() ? shardingEncryptor.get().decrypt(getCiphertext(value)) : value;
+    private Object[] decrypt(final ShardingEncryptor shardingEncryptor, final ColumnVector column) {
+        String[] ciphertexts = new String[column.size()];
+        for (int i = 0; i < ciphertexts.length; i++) {
+            ciphertexts[i] = getCiphertext(column.get(i));
+        }
+        return ShardingEncryptors.decrypt(shardingEncryptor, ciphertexts);
     }
     
     private String getCiphertext(final Object value) {
@@ -114,6 +114,17 @@ public final class QueryResultMetaData {
         return resultSetMetaData.getColumnName(columnIndex);
     }
     
+    /**
+     * Get column type.
+     * 
+     * @param columnIndex column index
+     * @return column type of {@code java.sql.Types}
+     * @throws SQLException SQL exception
+     */
+    public int getColumnType(final int columnIndex) throws SQLException {
+        return resultSetMetaData.getColumnType(columnIndex);
+    }
+    
     /**
      * Get column index.
      * 
@@ -21,7 +21,6 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 
@@ -42,13 +41,25 @@ public final class QueryResultUtil {
      * @throws SQLException SQL exception
      */
     public static Object getValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        Object result = getValueByColumnType(resultSet, columnIndex);
+        return getValue(resultSet, columnIndex, resultSet.getMetaData().getColumnType(columnIndex));
+    }
+    
+    /**
+     * Get value with column type.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index of value
+     * @param columnType column type of {@code java.sql.Types}
+     * @return {@code null} if the column is SQL {@code NULL}, otherwise the value of column
+     * @throws SQLException SQL exception
+     */
+    public static Object getValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        Object result = getValueByColumnType(resultSet, columnIndex, columnType);
         return resultSet.wasNull() ? null : result;
     }
     
-    private static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    private static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        switch (columnType) {
             case Types.BOOLEAN:
                 return resultSet.getBoolean(columnIndex);
             case Types.TINYINT:
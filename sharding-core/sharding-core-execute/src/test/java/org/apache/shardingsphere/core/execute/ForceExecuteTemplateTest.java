@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class ForceExecuteTemplateTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(4);
+    
+    private final ForceExecuteTemplate<Connection> forceExecuteTemplate = new ForceExecuteTemplate<>();
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertExecuteSerially() throws SQLException {
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        forceExecuteTemplate.execute(Arrays.asList(connection0, connection1), new CommitCallback());
+        verify(connection0).commit();
+        verify(connection1).commit();
+    }
+    
+    @Test
+    public void assertExecuteSeriallyWithExceptions() throws SQLException {
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        doThrow(new SQLException("ds_0")).when(connection0).commit();
+        try {
+            forceExecuteTemplate.execute(Arrays.asList(connection0, connection1), new CommitCallback());
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException().getMessage(), is("ds_0"));
+        }
+        verify(connection1).commit();
+    }
+    
+    @Test
+    public void assertExecuteInParallel() throws SQLException {
+        Multimap<String, Connection> connections = LinkedHashMultimap.create();
+        for (int i = 0; i < 4; i++) {
+            connections.put("ds_" + i, mock(Connection.class));
+        }
+        connections.put("ds_0", mock(Connection.class));
+        final Set<String> threadNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        forceExecuteTemplate.execute(executeEngine, connections.asMap(), new ForceExecuteCallback<Connection>() {
+            
+            @Override
+            public void execute(final Connection connection) throws SQLException {
+                threadNames.add(Thread.currentThread().getName());
+                connection.commit();
+            }
+        });
+        for (Connection each : connections.values()) {
+            verify(each).commit();
+        }
+        assertThat(threadNames.size() > 1, is(true));
+    }
+    
+    @Test
+    public void assertExecuteInParallelWithExceptions() throws SQLException {
+        Multimap<String, Connection> connections = LinkedHashMultimap.create();
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        doThrow(new SQLException("ds_0")).when(connection0).commit();
+        doThrow(new SQLException("ds_2")).when(connection2).commit();
+        connections.put("ds_0", connection0);
+        connections.put("ds_1", connection1);
+        connections.put("ds_2", connection2);
+        try {
+            forceExecuteTemplate.execute(executeEngine, connections.asMap(), new CommitCallback());
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException().getMessage(), is("ds_0"));
+            assertThat(ex.getNextException().getNextException().getMessage(), is("ds_2"));
+        }
+        verify(connection1).commit();
+    }
+    
+    @Test
+    public void assertExecuteInParallelWithBlockedConnections() throws SQLException {
+        Multimap<String, Connection> connections = LinkedHashMultimap.create();
+        for (int i = 0; i < 4; i++) {
+            connections.put("ds_" + i, mock(Connection.class));
+        }
+        final CyclicBarrier barrier = new CyclicBarrier(4);
+        forceExecuteTemplate.execute(executeEngine, connections.asMap(), new ForceExecuteCallback<Connection>() {
+            
+            @Override
+            public void execute(final Connection connection) throws SQLException {
+                try {
+                    barrier.await(10L, TimeUnit.SECONDS);
+                } catch (final InterruptedException | BrokenBarrierException | TimeoutException ex) {
+                    throw new SQLException(ex);
+                }
+                connection.commit();
+            }
+        });
+        for (Connection each : connections.values()) {
+            verify(each).commit();
+        }
+    }
+    
+    private static final class CommitCallback implements ForceExecuteCallback<Connection> {
+        
+        @Override
+        public void execute(final Connection connection) throws SQLException {
+            connection.commit();
+        }
+    }
+}
@@ -26,10 +26,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -94,6 +97,73 @@ public class ShardingExecuteEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertExecuteWithWorkStealingAndConcurrencyLimit() throws SQLException, InterruptedException {
+        ShardingExecuteEngine workStealingExecuteEngine = new ShardingExecuteEngine(4, true, 1);
+        try {
+            List<String> actual = workStealingExecuteEngine.groupExecute(inputGroups, callback);
+            latch.await();
+            assertThat(actual.size(), is(4));
+            assertThat(workStealingExecuteEngine.getMetrics().getStartedCount(), is(2L));
+        } finally {
+            workStealingExecuteEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithConcurrentCallersOnSameDataSource() throws InterruptedException {
+        final ShardingExecuteEngine limitedExecuteEngine = new ShardingExecuteEngine(4, false, 1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch overlapped = new CountDownLatch(2);
+        final ShardingGroupExecuteCallback<StatementExecuteUnit, String> blockingCallback = new ShardingGroupExecuteCallback<StatementExecuteUnit, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                int current = running.incrementAndGet();
+                if (current > maxRunning.get()) {
+                    maxRunning.set(current);
+                }
+                overlapped.countDown();
+                try {
+                    overlapped.await(200L, TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return Collections.singletonList("succeed");
+            }
+        };
+        final List<String> actual = Collections.synchronizedList(new LinkedList<String>());
+        Collection<Thread> callers = new LinkedList<>();
+        for (int i = 0; i < 2; i++) {
+            callers.add(new Thread(new Runnable() {
+                
+                @Override
+                public void run() {
+                    try {
+                        actual.addAll(limitedExecuteEngine.groupExecute(Collections.singletonList(
+                                new ShardingExecuteGroup<>("ds", Collections.singletonList(mock(StatementExecuteUnit.class)))), blockingCallback));
+                    } catch (final SQLException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            }));
+        }
+        try {
+            for (Thread each : callers) {
+                each.start();
+            }
+            for (Thread each : callers) {
+                each.join();
+            }
+            assertThat(actual.size(), is(2));
+            assertThat(maxRunning.get(), is(1));
+        } finally {
+            limitedExecuteEngine.close();
+        }
+    }
+    
     @Test
     public void assertInputGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.RequiredArgsConstructor;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingExecuteSchedulerTest {
+    
+    private final ListeningExecutorService executorService = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(8));
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertSubmitWithConcurrencyLimit() throws InterruptedException, ExecutionException {
+        ShardingExecuteScheduler scheduler = new ShardingExecuteScheduler(executorService, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Collection<ListenableFuture<Integer>> futures = new LinkedList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(scheduler.submit("hot_ds", new SlowTask(release, running, maxRunning)));
+        }
+        ListenableFuture<Integer> otherFuture = scheduler.submit("other_ds", new SlowTask(new CountDownLatch(0), new AtomicInteger(), new AtomicInteger()));
+        assertThat(otherFuture.get(), is(1));
+        assertThat(scheduler.getPendingCount("hot_ds"), is(4));
+        while (running.get() < 2) {
+            Thread.sleep(1L);
+        }
+        release.countDown();
+        for (ListenableFuture<Integer> each : futures) {
+            assertThat(each.get(), is(1));
+        }
+        assertThat(maxRunning.get(), is(2));
+        assertThat(scheduler.getPendingCount("hot_ds"), is(0));
+        assertThat(scheduler.getMetrics().getStartedCount(), is(7L));
+        assertThat(scheduler.getMetrics().getQueueDepth(), is(0));
+    }
+    
+    @Test
+    public void assertSubmitWithoutConcurrencyLimit() throws InterruptedException, ExecutionException {
+        ShardingExecuteScheduler scheduler = new ShardingExecuteScheduler(executorService, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Collection<ListenableFuture<Integer>> futures = new LinkedList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(scheduler.submit("ds", new SlowTask(release, running, maxRunning)));
+        }
+        assertThat(scheduler.getPendingCount("ds"), is(0));
+        release.countDown();
+        for (ListenableFuture<Integer> each : futures) {
+            assertThat(each.get(), is(1));
+        }
+        assertThat(scheduler.getMetrics().getStartedCount(), is(4L));
+    }
+    
+    @Test
+    public void assertSubmitWithFailure() throws InterruptedException {
+        ShardingExecuteScheduler scheduler = new ShardingExecuteScheduler(executorService, 1);
+        ListenableFuture<Integer> failedFuture = scheduler.submit("ds", new Callable<Integer>() {
+            
+            @Override
+            public Integer call() {
+                throw new IllegalStateException("failure");
+            }
+        });
+        try {
+            failedFuture.get();
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        ListenableFuture<Integer> nextFuture = scheduler.submit("ds", new SlowTask(new CountDownLatch(0), new AtomicInteger(), new AtomicInteger()));
+        try {
+            assertThat(nextFuture.get(1, TimeUnit.SECONDS), is(1));
+        } catch (final ExecutionException | TimeoutException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SlowTask implements Callable<Integer> {
+        
+        private final CountDownLatch release;
+        
+        private final AtomicInteger running;
+        
+        private final AtomicInteger maxRunning;
+        
+        @Override
+        public Integer call() throws InterruptedException {
+            int current = running.incrementAndGet();
+            int currentMax = maxRunning.get();
+            while (current > currentMax && !maxRunning.compareAndSet(currentMax, current)) {
+                currentMax = maxRunning.get();
+            }
+            release.await();
+            running.decrementAndGet();
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class TableMetaDataBulkLoaderTest {
+    
+    @Test
+    public void assertFindByDatabaseProductName() {
+        assertThat(TableMetaDataBulkLoader.findByDatabaseProductName("MySQL").get(), is(TableMetaDataBulkLoader.MYSQL));
+        assertThat(TableMetaDataBulkLoader.findByDatabaseProductName("PostgreSQL").get(), is(TableMetaDataBulkLoader.POSTGRESQL));
+        assertFalse(TableMetaDataBulkLoader.findByDatabaseProductName("H2").isPresent());
+        assertFalse(TableMetaDataBulkLoader.findByDatabaseProductName(null).isPresent());
+    }
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement columnsPreparedStatement = mock(PreparedStatement.class);
+        ResultSet columnsResultSet = mockColumnsResultSet();
+        when(columnsPreparedStatement.executeQuery()).thenReturn(columnsResultSet);
+        when(connection.prepareStatement(contains("information_schema.COLUMNS"))).thenReturn(columnsPreparedStatement);
+        PreparedStatement indexesPreparedStatement = mock(PreparedStatement.class);
+        ResultSet indexesResultSet = mockIndexesResultSet();
+        when(indexesPreparedStatement.executeQuery()).thenReturn(indexesResultSet);
+        when(connection.prepareStatement(contains("information_schema.STATISTICS"))).thenReturn(indexesPreparedStatement);
+        Map<String, TableMetaData> actual = TableMetaDataBulkLoader.MYSQL.load(connection, "db", Arrays.asList("t_order_0", "t_order_1", "t_order_2"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order_0").getColumns().size(), is(2));
+        assertThat(actual.get("t_order_0").getColumns().get("order_id"), is(new ColumnMetaData("order_id", "BIGINT", true)));
+        assertThat(actual.get("t_order_0").getColumns().get("status"), is(new ColumnMetaData("status", "VARCHAR", false)));
+        assertTrue(actual.get("t_order_0").containsIndex("status_idx_t_order_0"));
+        assertThat(actual.get("T_ORDER_1").getColumns().size(), is(1));
+        assertThat(actual.get("t_order_1").getColumns().get("order_id"), is(new ColumnMetaData("order_id", "BIGINT UNSIGNED", true)));
+        assertTrue(actual.get("t_order_1").getIndexes().isEmpty());
+        assertFalse(actual.containsKey("t_order_2"));
+        verify(columnsPreparedStatement).setString(1, "db");
+        verify(columnsPreparedStatement).setString(2, "t_order_0");
+        verify(columnsPreparedStatement).setString(4, "t_order_2");
+    }
+    
+    @Test
+    public void assertLoadForPostgreSQLSerialColumn() throws SQLException {
+        Connection connection = mock(Connection.class);
+        ResultSet columnsResultSet = mock(ResultSet.class);
+        when(columnsResultSet.next()).thenReturn(true, true, false);
+        when(columnsResultSet.getString(1)).thenReturn("t_order", "t_order");
+        when(columnsResultSet.getString(2)).thenReturn("order_id", "status");
+        when(columnsResultSet.getString(3)).thenReturn("int8", "varchar");
+        when(columnsResultSet.getString(4)).thenReturn("nextval('t_order_order_id_seq'::regclass)", null);
+        when(columnsResultSet.getBoolean(5)).thenReturn(true, false);
+        PreparedStatement columnsPreparedStatement = mock(PreparedStatement.class);
+        when(columnsPreparedStatement.executeQuery()).thenReturn(columnsResultSet);
+        when(connection.prepareStatement(contains("information_schema.columns"))).thenReturn(columnsPreparedStatement);
+        PreparedStatement indexesPreparedStatement = mock(PreparedStatement.class);
+        ResultSet indexesResultSet = mock(ResultSet.class);
+        when(indexesPreparedStatement.executeQuery()).thenReturn(indexesResultSet);
+        when(connection.prepareStatement(contains("pg_indexes"))).thenReturn(indexesPreparedStatement);
+        Map<String, TableMetaData> actual = TableMetaDataBulkLoader.POSTGRESQL.load(connection, "db", Collections.singletonList("t_order"));
+        assertThat(actual.get("t_order").getColumns().get("order_id"), is(new ColumnMetaData("order_id", "bigserial", true)));
+        assertThat(actual.get("t_order").getColumns().get("status"), is(new ColumnMetaData("status", "varchar", false)));
+    }
+    
+    private ResultSet mockColumnsResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        when(result.getString(1)).thenReturn("t_order_0", "t_order_0", "t_order_1");
+        when(result.getString(2)).thenReturn("order_id", "status", "order_id");
+        when(result.getString(3)).thenReturn("bigint", "varchar", "bigint");
+        when(result.getString(4)).thenReturn("bigint(20)", "varchar(10)", "bigint(20) unsigned");
+        when(result.getBoolean(5)).thenReturn(true, false, true);
+        return result;
+    }
+    
+    private ResultSet mockIndexesResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString(1)).thenReturn("t_order_0");
+        when(result.getString(2)).thenReturn("status_idx_t_order_0");
+        return result;
+    }
+}
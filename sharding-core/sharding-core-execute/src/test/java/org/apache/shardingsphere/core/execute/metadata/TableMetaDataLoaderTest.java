@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class TableMetaDataLoaderTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertLoadLogicTablesWithOneQueryPerDataSource() throws SQLException {
+        Connection connection = mockConnection();
+        TableMetaDataConnectionManager connectionManager = mock(TableMetaDataConnectionManager.class);
+        when(connectionManager.getConnection("ds")).thenReturn(connection);
+        Map<String, TableMetaData> actual = new TableMetaDataLoader(mockDataSourceMetas(), executeEngine, connectionManager, 1, true).load(Arrays.asList("t_order", "t_user"), createShardingRule());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order").getColumns().get("order_id"), is(new ColumnMetaData("order_id", "BIGINT", true)));
+        assertThat(actual.get("t_user").getColumns().get("user_id"), is(new ColumnMetaData("user_id", "INT", true)));
+        verify(connectionManager, times(1)).getConnection("ds");
+        verify(connection, times(1)).prepareStatement(contains("information_schema.COLUMNS"));
+        verify(connection, times(1)).prepareStatement(contains("information_schema.STATISTICS"));
+    }
+    
+    @Test
+    public void assertLoadWithBulkLoaderSameAsDatabaseMetaData() throws SQLException {
+        Connection bulkLoadConnection = mockBulkLoadConnection();
+        TableMetaDataConnectionManager bulkConnectionManager = mock(TableMetaDataConnectionManager.class);
+        when(bulkConnectionManager.getConnection("ds")).thenReturn(bulkLoadConnection);
+        TableMetaData expected = new TableMetaDataLoader(mockDataSourceMetas(), executeEngine, bulkConnectionManager, 1, true).load(
+                Collections.singletonList("t_user"), createShardingRule()).get("t_user");
+        Connection databaseMetaDataConnection = mockDatabaseMetaDataConnection();
+        TableMetaDataConnectionManager connectionManager = mock(TableMetaDataConnectionManager.class);
+        when(connectionManager.getConnection("ds")).thenReturn(databaseMetaDataConnection);
+        TableMetaData actual = new TableMetaDataLoader(mock(DataSourceMetas.class), executeEngine, connectionManager, 1, true).load(
+                Collections.singletonList("t_user"), createShardingRule()).get("t_user");
+        assertThat(actual, is(expected));
+        assertThat(actual.getColumns().get("user_id"), is(new ColumnMetaData("user_id", "INT UNSIGNED", true)));
+        assertTrue(actual.containsIndex("name_idx"));
+    }
+    
+    private Connection mockBulkLoadConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("MySQL");
+        when(result.getMetaData()).thenReturn(databaseMetaData);
+        ResultSet columnsResultSet = mock(ResultSet.class);
+        when(columnsResultSet.next()).thenReturn(true, true, false);
+        when(columnsResultSet.getString(1)).thenReturn("t_user", "t_user");
+        when(columnsResultSet.getString(2)).thenReturn("user_id", "name");
+        when(columnsResultSet.getString(3)).thenReturn("int", "varchar");
+        when(columnsResultSet.getString(4)).thenReturn("int(10) unsigned", "varchar(32)");
+        when(columnsResultSet.getBoolean(5)).thenReturn(true, false);
+        PreparedStatement columnsPreparedStatement = mock(PreparedStatement.class);
+        when(columnsPreparedStatement.executeQuery()).thenReturn(columnsResultSet);
+        when(result.prepareStatement(contains("information_schema.COLUMNS"))).thenReturn(columnsPreparedStatement);
+        ResultSet indexesResultSet = mock(ResultSet.class);
+        when(indexesResultSet.next()).thenReturn(true, false);
+        when(indexesResultSet.getString(1)).thenReturn("t_user");
+        when(indexesResultSet.getString(2)).thenReturn("name_idx_t_user");
+        PreparedStatement indexesPreparedStatement = mock(PreparedStatement.class);
+        when(indexesPreparedStatement.executeQuery()).thenReturn(indexesResultSet);
+        when(result.prepareStatement(contains("information_schema.STATISTICS"))).thenReturn(indexesPreparedStatement);
+        return result;
+    }
+    
+    private Connection mockDatabaseMetaDataConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("MySQL");
+        ResultSet tablesResultSet = mock(ResultSet.class);
+        when(tablesResultSet.next()).thenReturn(true);
+        when(databaseMetaData.getTables(null, null, "t_user", null)).thenReturn(tablesResultSet);
+        ResultSet primaryKeysResultSet = mock(ResultSet.class);
+        when(primaryKeysResultSet.next()).thenReturn(true, false);
+        when(primaryKeysResultSet.getString("COLUMN_NAME")).thenReturn("user_id");
+        when(databaseMetaData.getPrimaryKeys(null, null, "t_user")).thenReturn(primaryKeysResultSet);
+        ResultSet columnsResultSet = mock(ResultSet.class);
+        when(columnsResultSet.next()).thenReturn(true, true, false);
+        when(columnsResultSet.getString("COLUMN_NAME")).thenReturn("user_id", "name");
+        when(columnsResultSet.getString("TYPE_NAME")).thenReturn("INT UNSIGNED", "VARCHAR");
+        when(databaseMetaData.getColumns(null, null, "t_user", "%")).thenReturn(columnsResultSet);
+        ResultSet indexesResultSet = mock(ResultSet.class);
+        when(indexesResultSet.next()).thenReturn(true, false);
+        when(indexesResultSet.getString("INDEX_NAME")).thenReturn("name_idx_t_user");
+        when(databaseMetaData.getIndexInfo(null, null, "t_user", false, false)).thenReturn(indexesResultSet);
+        when(result.getMetaData()).thenReturn(databaseMetaData);
+        return result;
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "ds.t_order_${0..1}"));
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_user", "ds.t_user"));
+        return new ShardingRule(shardingRuleConfig, Collections.singletonList("ds"));
+    }
+    
+    private DataSourceMetas mockDataSourceMetas() {
+        DataSourceMetas result = mock(DataSourceMetas.class);
+        DataSourceMetaData dataSourceMetaData = mock(DataSourceMetaData.class);
+        when(dataSourceMetaData.getSchemaName()).thenReturn("db");
+        when(result.getDataSourceMetaData("ds")).thenReturn(dataSourceMetaData);
+        return result;
+    }
+    
+    private Connection mockConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("MySQL");
+        when(result.getMetaData()).thenReturn(databaseMetaData);
+        PreparedStatement columnsPreparedStatement = mock(PreparedStatement.class);
+        ResultSet columnsResultSet = mockColumnsResultSet();
+        when(columnsPreparedStatement.executeQuery()).thenReturn(columnsResultSet);
+        when(result.prepareStatement(contains("information_schema.COLUMNS"))).thenReturn(columnsPreparedStatement);
+        PreparedStatement indexesPreparedStatement = mock(PreparedStatement.class);
+        ResultSet indexesResultSet = mock(ResultSet.class);
+        when(indexesPreparedStatement.executeQuery()).thenReturn(indexesResultSet);
+        when(result.prepareStatement(contains("information_schema.STATISTICS"))).thenReturn(indexesPreparedStatement);
+        return result;
+    }
+    
+    private ResultSet mockColumnsResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        when(result.getString(1)).thenReturn("t_order_0", "t_order_1", "t_user");
+        when(result.getString(2)).thenReturn("order_id", "order_id", "user_id");
+        when(result.getString(3)).thenReturn("bigint", "bigint", "int");
+        when(result.getString(4)).thenReturn("bigint(20)", "bigint(20)", "int(11)");
+        when(result.getBoolean(5)).thenReturn(true, true, true);
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.column.EncryptColumnMetaData;
+import org.apache.shardingsphere.core.metadata.column.ShardingGeneratedKeyColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class TableMetaDataSnapshotTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertLoadWithoutSnapshotFile() {
+        assertFalse(new TableMetaDataSnapshot(new File(temporaryFolder.getRoot(), "absent"), "configuration").load().isPresent());
+    }
+    
+    @Test
+    public void assertSaveAndLoad() {
+        File file = new File(temporaryFolder.getRoot(), "metadata.snapshot");
+        Map<String, TableMetaData> tables = createTables();
+        new TableMetaDataSnapshot(file, "configuration").save(tables);
+        assertThat(new TableMetaDataSnapshot(file, "configuration").load().get(), is(tables));
+    }
+    
+    @Test
+    public void assertLoadWithDifferentConfiguration() {
+        File file = new File(temporaryFolder.getRoot(), "metadata.snapshot");
+        new TableMetaDataSnapshot(file, "configuration").save(createTables());
+        assertFalse(new TableMetaDataSnapshot(file, "other_configuration").load().isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithCorruptedContent() throws IOException {
+        File file = new File(temporaryFolder.getRoot(), "metadata.snapshot");
+        new TableMetaDataSnapshot(file, "configuration").save(createTables());
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.seek(randomAccessFile.length() - 1);
+            int lastByte = randomAccessFile.read();
+            randomAccessFile.seek(randomAccessFile.length() - 1);
+            randomAccessFile.write(lastByte ^ 0xff);
+        }
+        assertFalse(new TableMetaDataSnapshot(file, "configuration").load().isPresent());
+    }
+    
+    private Map<String, TableMetaData> createTables() {
+        Map<String, TableMetaData> result = new HashMap<>();
+        result.put("t_order", new TableMetaData(Arrays.asList(new ShardingGeneratedKeyColumnMetaData("order_id", "BIGINT", true), 
+                new ColumnMetaData("status", null, false), new EncryptColumnMetaData("pwd", "VARCHAR", false, "pwd_cipher", null, "pwd_assisted")), Collections.singleton("status_idx")));
+        result.put("t_config", new TableMetaData(Collections.<ColumnMetaData>emptyList(), Collections.<String>emptyList()));
+        return result;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
+import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class CompletionOrderExecuteResultsTest {
+    
+    private static final String URL = "jdbc:h2:mem:completion_order_ds;DB_CLOSE_DELAY=-1;MODE=MYSQL";
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2);
+    
+    private final CountDownLatch slowLatch = new CountDownLatch(1);
+    
+    private DatabaseType databaseType;
+    
+    private Statement slowStatement;
+    
+    private Statement fastStatement;
+    
+    @Before
+    public void setUp() throws SQLException {
+        databaseType = mock(DatabaseType.class);
+        when(databaseType.getDataSourceMetaData(anyString())).thenReturn(mock(DataSourceMetaData.class));
+        slowStatement = mockStatement();
+        fastStatement = mockStatement();
+    }
+    
+    private Statement mockStatement() throws SQLException {
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getURL()).thenReturn(URL);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        Statement result = mock(Statement.class);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertGetInCompletionOrder() throws SQLException {
+        CompletionOrderExecuteResults<String> actual = createExecuteResults(createCallback(false));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.getResult(0), is("ds_1"));
+        slowLatch.countDown();
+        assertThat(actual.get(1), is("ds_0"));
+        actual.close();
+        verify(slowStatement, never()).cancel();
+        verify(fastStatement, never()).cancel();
+    }
+    
+    @Test
+    public void assertCloseCancelsStatementsOfUncompletedGroups() throws SQLException {
+        doAnswer(new Answer() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                slowLatch.countDown();
+                return null;
+            }
+        }).when(slowStatement).cancel();
+        CompletionOrderExecuteResults<String> actual = createExecuteResults(createCallback(false));
+        assertThat(actual.getResult(0), is("ds_1"));
+        actual.close();
+        verify(slowStatement).cancel();
+        verify(fastStatement, never()).cancel();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetResultWithFailedGroup() throws SQLException {
+        slowLatch.countDown();
+        CompletionOrderExecuteResults<String> actual = createExecuteResults(createCallback(true));
+        try {
+            actual.getResult(1);
+        } finally {
+            actual.close();
+        }
+    }
+    
+    private CompletionOrderExecuteResults<String> createExecuteResults(final SQLExecuteCallback<String> callback) {
+        return new CompletionOrderExecuteResults<>(executeEngine, Arrays.asList(createExecuteGroup("ds_0", slowStatement), createExecuteGroup("ds_1", fastStatement)), callback);
+    }
+    
+    private ShardingExecuteGroup<StatementExecuteUnit> createExecuteGroup(final String dataSourceName, final Statement statement) {
+        RouteUnit routeUnit = new RouteUnit(dataSourceName, new SQLUnit("SELECT 1", Collections.emptyList()));
+        return new ShardingExecuteGroup<>(dataSourceName, Collections.singletonList(new StatementExecuteUnit(routeUnit, statement, ConnectionMode.MEMORY_STRICTLY)));
+    }
+    
+    private SQLExecuteCallback<String> createCallback(final boolean slowFailed) {
+        return new SQLExecuteCallback<String>(databaseType, true) {
+            
+            @Override
+            protected String executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                if (statement == slowStatement) {
+                    Uninterruptibles.awaitUninterruptibly(slowLatch);
+                    if (slowFailed) {
+                        throw new SQLException("Execute failed.");
+                    }
+                }
+                return routeUnit.getDataSourceName();
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.execute.sql.execute;
+
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLExecuteCallbackTest {
+    
+    private static final String URL = "jdbc:h2:mem:sql_execute_callback_ds;DB_CLOSE_DELAY=-1;MODE=MYSQL";
+    
+    private DatabaseType databaseType;
+    
+    private List<StatementExecuteUnit> statementExecuteUnits;
+    
+    @Before
+    public void setUp() throws SQLException {
+        databaseType = mock(DatabaseType.class);
+        when(databaseType.getDataSourceMetaData(URL)).thenReturn(mock(DataSourceMetaData.class));
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getURL()).thenReturn(URL);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        Statement statement = mock(Statement.class);
+        when(statement.getConnection()).thenReturn(connection);
+        RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList()));
+        statementExecuteUnits = Arrays.asList(
+                new StatementExecuteUnit(routeUnit, statement, ConnectionMode.MEMORY_STRICTLY), new StatementExecuteUnit(routeUnit, statement, ConnectionMode.MEMORY_STRICTLY));
+    }
+    
+    @Test
+    public void assertExecuteWithCachedDataSourceMetaData() throws SQLException {
+        SQLExecuteCallback<Integer> sqlExecuteCallback = new SQLExecuteCallback<Integer>(databaseType, true) {
+            
+            @Override
+            protected Integer executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) {
+                return 1;
+            }
+        };
+        Collection<Integer> actual = sqlExecuteCallback.execute(statementExecuteUnits, true, Collections.<String, Object>emptyMap());
+        assertThat(actual.size(), is(2));
+        verify(databaseType, times(1)).getDataSourceMetaData(URL);
+    }
+}
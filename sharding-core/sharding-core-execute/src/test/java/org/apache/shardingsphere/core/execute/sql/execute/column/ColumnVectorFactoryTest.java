@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.column;
+
+import org.junit.Test;
+
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public final class ColumnVectorFactoryTest {
+    
+    @Test
+    public void assertNewInstanceForBoolean() {
+        assertThat(ColumnVectorFactory.newInstance(Types.BOOLEAN), instanceOf(BooleanColumnVector.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForInteger() {
+        assertThat(ColumnVectorFactory.newInstance(Types.SMALLINT), instanceOf(IntColumnVector.class));
+        assertThat(ColumnVectorFactory.newInstance(Types.INTEGER), instanceOf(IntColumnVector.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForBigint() {
+        assertThat(ColumnVectorFactory.newInstance(Types.BIGINT), instanceOf(LongColumnVector.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForDouble() {
+        assertThat(ColumnVectorFactory.newInstance(Types.DOUBLE), instanceOf(DoubleColumnVector.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForVarchar() {
+        assertThat(ColumnVectorFactory.newInstance(Types.VARCHAR), instanceOf(StringColumnVector.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForOthers() {
+        assertThat(ColumnVectorFactory.newInstance(Types.DECIMAL), instanceOf(ObjectColumnVector.class));
+        assertThat(ColumnVectorFactory.newInstance(Types.TIMESTAMP), instanceOf(ObjectColumnVector.class));
+    }
+}
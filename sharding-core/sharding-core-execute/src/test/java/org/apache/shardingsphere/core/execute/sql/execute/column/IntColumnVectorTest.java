@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.column;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class IntColumnVectorTest {
+    
+    @Test
+    public void assertLoadAndGetWithGrowing() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        IntColumnVector actual = new IntColumnVector();
+        for (int i = 0; i < 100; i++) {
+            when(resultSet.getInt(1)).thenReturn(i);
+            actual.load(resultSet, 1);
+        }
+        assertThat(actual.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is((Object) i));
+        }
+    }
+    
+    @Test
+    public void assertLoadNull() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(0);
+        when(resultSet.wasNull()).thenReturn(true, false);
+        IntColumnVector actual = new IntColumnVector();
+        actual.load(resultSet, 1);
+        actual.load(resultSet, 1);
+        assertThat(actual.get(0), nullValue());
+        assertThat(actual.get(1), is((Object) 0));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetOutOfBounds() {
+        new IntColumnVector().get(0);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.column;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StringColumnVectorTest {
+    
+    @Test
+    public void assertLoadAndGetWithDictionary() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("foo", "bar", null, "foo");
+        when(resultSet.wasNull()).thenReturn(false, false, true, false);
+        StringColumnVector actual = new StringColumnVector();
+        for (int i = 0; i < 4; i++) {
+            actual.load(resultSet, 1);
+        }
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0), is((Object) "foo"));
+        assertThat(actual.get(1), is((Object) "bar"));
+        assertThat(actual.get(2), nullValue());
+        assertThat(actual.get(3), is((Object) "foo"));
+    }
+    
+    @Test
+    public void assertLoadAndGetWhenDictionaryOverflow() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenAnswer(new Answer<String>() {
+            
+            private int index;
+            
+            @Override
+            public String answer(final InvocationOnMock invocation) {
+                return "value_" + index++;
+            }
+        });
+        StringColumnVector actual = new StringColumnVector();
+        int count = (1 << 16) + 10;
+        for (int i = 0; i < count; i++) {
+            actual.load(resultSet, 1);
+        }
+        assertThat(actual.size(), is(count));
+        assertThat(actual.get(0), is((Object) "value_0"));
+        assertThat(actual.get(1 << 16), is((Object) ("value_" + (1 << 16))));
+        assertThat(actual.get(count - 1), is((Object) ("value_" + (count - 1))));
+    }
+}
@@ -125,7 +125,7 @@ public final class MemoryQueryResultTest {
     @Test(expected = Exception.class)
     public void assertGetValueWithException() throws SQLException {
         ResultSet resultSet = getResultSetWithException();
-        MemoryQueryResult queryResult = new MemoryQueryResult(resultSet);
+        MemoryQueryResult queryResult = new MemoryQueryResult(resultSet, new EncryptRule(), new ShardingProperties(new Properties()));
         queryResult.next();
         queryResult.getValue("order_id", Integer.class);
     }
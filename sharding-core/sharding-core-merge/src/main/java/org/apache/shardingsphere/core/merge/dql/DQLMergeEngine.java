@@ -20,13 +20,18 @@ package org.apache.shardingsphere.core.merge.dql;
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupBySortMergedResult;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
@@ -34,15 +39,21 @@ import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedR
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
@@ -61,14 +72,21 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final List<QueryResult> queryResults;
     
+    private final ShardingProperties shardingProperties;
+    
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, routeResult, queryResults, new ShardingProperties(new Properties()));
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) throws SQLException {
         this.databaseType = databaseType;
         this.routeResult = routeResult;
         this.shardingStatement = (ShardingSelectOptimizedStatement) routeResult.getShardingStatement();
         this.queryResults = getRealQueryResults(queryResults);
+        this.shardingProperties = shardingProperties;
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
@@ -78,10 +96,10 @@ public final class DQLMergeEngine implements MergeEngine {
             return result;
         }
         List<AggregationDistinctSelectItem> aggregationDistinctSelectItems = shardingStatement.getSelectItems().getAggregationDistinctSelectItems();
-        if (!aggregationDistinctSelectItems.isEmpty()) {
+        if (!aggregationDistinctSelectItems.isEmpty() && !shardingStatement.isApproximateCountDistinct()) {
             result = getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, aggregationDistinctSelectItems));
         }
-        if (isDistinctRowSelectItems()) {
+        if (isDistinctRowSelectItems() && !shardingStatement.isOrderByDistinctItemsForShards()) {
             result = getDividedQueryResults(new DistinctQueryResult(queryResults, shardingStatement.getSelectItems().getColumnLabels()));
         }
         return result.isEmpty() ? queryResults : result;
@@ -119,6 +137,9 @@ public final class DQLMergeEngine implements MergeEngine {
     }
     
     private MergedResult build() throws SQLException {
+        if (shardingStatement.isOrderByDistinctItemsForShards()) {
+            return new DistinctStreamMergedResult(queryResults, getDistinctOrderByItems(), shardingStatement.getSelectItems().getColumnLabels().size());
+        }
         if (!shardingStatement.getGroupBy().getItems().isEmpty() || !shardingStatement.getSelectItems().getAggregationSelectItems().isEmpty()) {
             return getGroupByMergedResult();
         }
@@ -128,9 +149,38 @@ public final class DQLMergeEngine implements MergeEngine {
         return new IteratorStreamMergedResult(queryResults);
     }
     
+    private Collection<OrderByItem> getDistinctOrderByItems() {
+        Collection<OrderByItem> result = new LinkedList<>(shardingStatement.getOrderBy().getItems());
+        OrderDirection nullOrderDirection = getNullOrderDirection();
+        int distinctColumnCount = shardingStatement.getSelectItems().getColumnLabels().size();
+        for (int i = 1; i <= distinctColumnCount; i++) {
+            OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(-1, -1, i, OrderDirection.ASC, nullOrderDirection));
+            orderByItem.setIndex(i);
+            result.add(orderByItem);
+        }
+        return result;
+    }
+    
+    private OrderDirection getNullOrderDirection() {
+        if (!shardingStatement.getOrderBy().getItems().isEmpty()) {
+            return shardingStatement.getOrderBy().getItems().iterator().next().getSegment().getNullOrderDirection();
+        }
+        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
+        return "PostgreSQL".equals(trunkDatabaseName) || "SQLServer".equals(trunkDatabaseName) ? OrderDirection.DESC : OrderDirection.ASC;
+    }
+    
     private MergedResult getGroupByMergedResult() throws SQLException {
-        return shardingStatement.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, shardingStatement) : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, shardingStatement);
+        if (shardingStatement.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, shardingStatement);
+        }
+        if (shardingStatement.isOrderByGroupByItemsForShards()) {
+            return new GroupBySortMergedResult(columnLabelIndexMap, queryResults, shardingStatement);
+        }
+        int spillThreshold = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.GROUP_BY_MERGE_SPILL_THRESHOLD);
+        if (spillThreshold > 0 && !shardingStatement.isApproximateCountDistinct()) {
+            return new GroupBySpillMergedResult(columnLabelIndexMap, queryResults, shardingStatement, spillThreshold);
+        }
+        return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, shardingStatement);
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
@@ -21,21 +21,25 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.merge.MergedResult;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
 
 /**
  * Decorator merged result.
+ * 
+ * <p>Decorated merged result will be closed if it holds resources.</p>
  *
  * @author zhangliang
  */
 @RequiredArgsConstructor
 @Getter
-public abstract class DecoratorMergedResult implements MergedResult {
+public abstract class DecoratorMergedResult implements MergedResult, Closeable {
     
     private final MergedResult mergedResult;
-        
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
         return mergedResult.getValue(columnIndex, type);
@@ -70,4 +74,11 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void close() throws IOException {
+        if (mergedResult instanceof Closeable) {
+            ((Closeable) mergedResult).close();
+        }
+    }
 }
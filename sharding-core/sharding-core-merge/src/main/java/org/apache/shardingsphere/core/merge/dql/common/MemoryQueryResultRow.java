@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.merge.dql.common;
 
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
 
 import java.sql.SQLException;
 
@@ -35,6 +36,14 @@ public class MemoryQueryResultRow {
         data = load(queryResult);
     }
     
+    public MemoryQueryResultRow(final MergedResult mergedResult, final int columnCount) throws SQLException {
+        data = load(mergedResult, columnCount);
+    }
+    
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+    }
+    
     private Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getColumnCount();
         Object[] result = new Object[columnCount];
@@ -44,6 +53,14 @@ public class MemoryQueryResultRow {
         return result;
     }
     
+    private Object[] load(final MergedResult mergedResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
     /**
      * Get data from cell.
      * 
@@ -55,6 +72,15 @@ public class MemoryQueryResultRow {
         return data[columnIndex - 1];
     }
     
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return data.length;
+    }
+    
     /**
      * Set data for cell.
      *
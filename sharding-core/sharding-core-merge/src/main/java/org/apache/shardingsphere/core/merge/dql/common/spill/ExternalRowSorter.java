@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common.spill;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * External row sorter.
+ * 
+ * <p>
+ * Rows are sorted in memory until the count of buffered rows exceeds the threshold,
+ * then the sorted rows will be spilled into a temporary file as a sorted run.
+ * Sorted runs will be merged by {@code SpilledRowsIterator} at last.
+ * Temporary files of sorted runs are deleted when all of their rows have been read or the sorter is closed.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ExternalRowSorter implements Closeable {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int columnCount;
+    
+    private final int maxRowsInMemory;
+    
+    private final List<MemoryQueryResultRow> bufferedRows;
+    
+    private final List<RowSpillFile> sortedRuns = new LinkedList<>();
+    
+    public ExternalRowSorter(final Comparator<MemoryQueryResultRow> comparator, final int columnCount, final int maxRowsInMemory) {
+        Preconditions.checkArgument(maxRowsInMemory > 0, "Max rows in memory must be positive.");
+        this.comparator = comparator;
+        this.columnCount = columnCount;
+        this.maxRowsInMemory = maxRowsInMemory;
+        bufferedRows = new ArrayList<>(Math.min(maxRowsInMemory, 1024));
+    }
+    
+    /**
+     * Add row.
+     * 
+     * @param row row to be sorted
+     * @throws IOException IO exception
+     */
+    public void add(final MemoryQueryResultRow row) throws IOException {
+        bufferedRows.add(row);
+        if (bufferedRows.size() >= maxRowsInMemory) {
+            spill();
+        }
+    }
+    
+    /**
+     * Spill buffered rows into a temporary file as a sorted run.
+     * 
+     * @throws IOException IO exception
+     */
+    public void spill() throws IOException {
+        if (bufferedRows.isEmpty()) {
+            return;
+        }
+        Collections.sort(bufferedRows, comparator);
+        RowSpillFile sortedRun = new RowSpillFile(columnCount);
+        sortedRuns.add(sortedRun);
+        for (MemoryQueryResultRow each : bufferedRows) {
+            sortedRun.write(each);
+        }
+        sortedRun.finishWrite();
+        bufferedRows.clear();
+    }
+    
+    /**
+     * Judge whether rows have been spilled or not.
+     * 
+     * @return rows have been spilled or not
+     */
+    public boolean isSpilled() {
+        return !sortedRuns.isEmpty();
+    }
+    
+    /**
+     * Judge whether any row has been added or not.
+     *
+     * @return any row has been added or not
+     */
+    public boolean isEmpty() {
+        return sortedRuns.isEmpty() && bufferedRows.isEmpty();
+    }
+    
+    /**
+     * Get sorted rows.
+     * 
+     * <p>Sorter cannot be used any more after sorted rows got.</p>
+     * 
+     * @return sorted rows
+     * @throws IOException IO exception
+     */
+    public Iterator<MemoryQueryResultRow> sort() throws IOException {
+        if (!isSpilled()) {
+            Collections.sort(bufferedRows, comparator);
+            return bufferedRows.iterator();
+        }
+        spill();
+        return new SpilledRowsIterator(sortedRuns, comparator);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        bufferedRows.clear();
+        IOException exception = null;
+        for (RowSpillFile each : sortedRuns) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                exception = ex;
+            }
+        }
+        sortedRuns.clear();
+        if (null != exception) {
+            throw exception;
+        }
+    }
+}
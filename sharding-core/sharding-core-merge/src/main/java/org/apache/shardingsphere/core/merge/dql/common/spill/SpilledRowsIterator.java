@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common.spill;
+
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterator for merging sorted runs of spilled rows.
+ * 
+ * <p>Temporary file of sorted run will be deleted as soon as all of its rows have been read.</p>
+ *
+ * @author agent
+ */
+public final class SpilledRowsIterator implements Iterator<MemoryQueryResultRow> {
+    
+    private final PriorityQueue<SpilledRun> spilledRunsQueue;
+    
+    public SpilledRowsIterator(final Collection<RowSpillFile> sortedRuns, final Comparator<MemoryQueryResultRow> comparator) throws IOException {
+        spilledRunsQueue = new PriorityQueue<>(Math.max(1, sortedRuns.size()), new Comparator<SpilledRun>() {
+            
+            @Override
+            public int compare(final SpilledRun o1, final SpilledRun o2) {
+                return comparator.compare(o1.currentRow, o2.currentRow);
+            }
+        });
+        for (RowSpillFile each : sortedRuns) {
+            offer(new SpilledRun(each));
+        }
+    }
+    
+    private void offer(final SpilledRun spilledRun) throws IOException {
+        spilledRun.currentRow = spilledRun.file.read();
+        if (null == spilledRun.currentRow) {
+            spilledRun.file.close();
+        } else {
+            spilledRunsQueue.offer(spilledRun);
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !spilledRunsQueue.isEmpty();
+    }
+    
+    @Override
+    public MemoryQueryResultRow next() {
+        if (spilledRunsQueue.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        SpilledRun spilledRun = spilledRunsQueue.poll();
+        MemoryQueryResultRow result = spilledRun.currentRow;
+        try {
+            offer(spilledRun);
+        } catch (final IOException ex) {
+            throw new ShardingException(ex);
+        }
+        return result;
+    }
+    
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+    
+    private static final class SpilledRun {
+        
+        private final RowSpillFile file;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        SpilledRun(final RowSpillFile file) {
+            this.file = file;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import com.google.common.base.Objects;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stream merged result for distinct.
+ * 
+ * <p>
+ * Rows of shards are sorted by distinct columns, so duplicated rows are adjacent after merged in order.
+ * Only the rows whose distinct values are same ignoring case with the current row are kept for removing duplication,
+ * because case insensitive values may be merged alternately.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DistinctStreamMergedResult extends OrderByStreamMergedResult {
+    
+    private final int distinctColumnCount;
+    
+    private final Set<List<Object>> currentDistinctRows = new HashSet<>();
+    
+    private List<Object> currentDistinctValues;
+    
+    public DistinctStreamMergedResult(final List<QueryResult> queryResults, final Collection<OrderByItem> orderByItems, final int distinctColumnCount) throws SQLException {
+        super(queryResults, orderByItems);
+        this.distinctColumnCount = distinctColumnCount;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (super.next()) {
+            List<Object> distinctValues = getDistinctValues();
+            if (null == currentDistinctValues || !isSameIgnoreCase(currentDistinctValues, distinctValues)) {
+                currentDistinctValues = distinctValues;
+                currentDistinctRows.clear();
+                currentDistinctRows.add(distinctValues);
+                return true;
+            }
+            if (currentDistinctRows.add(distinctValues)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private List<Object> getDistinctValues() throws SQLException {
+        List<Object> result = new ArrayList<>(distinctColumnCount);
+        for (int i = 1; i <= distinctColumnCount; i++) {
+            result.add(getCurrentQueryResult().getValue(i, Object.class));
+        }
+        return result;
+    }
+    
+    private boolean isSameIgnoreCase(final List<Object> distinctValues1, final List<Object> distinctValues2) {
+        for (int i = 0; i < distinctColumnCount; i++) {
+            Object value1 = distinctValues1.get(i);
+            Object value2 = distinctValues2.get(i);
+            if (value1 instanceof String && value2 instanceof String) {
+                if (!((String) value1).equalsIgnoreCase((String) value2)) {
+                    return false;
+                }
+            } else if (!Objects.equal(value1, value2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaData;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.HyperLogLogAggregationUnit;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Aggregation units builder.
+ * 
+ * <p>
+ * Column types of aggregation values are fetched once from meta data of query result, 
+ * and used to choose accumulators of aggregation units for every group.
+ * Count distinct items use HyperLogLog aggregation units if approximate count distinct precision is positive.
+ * </p>
+ *
+ * @author agent
+ */
+final class AggregationUnitsBuilder {
+    
+    private final List<AggregationSelectItem> aggregationSelectItems;
+    
+    private final int[][] columnTypes;
+    
+    private final int approximateCountDistinctPrecision;
+    
+    AggregationUnitsBuilder(final List<AggregationSelectItem> aggregationSelectItems, final List<QueryResult> queryResults) throws SQLException {
+        this(aggregationSelectItems, queryResults, 0);
+    }
+    
+    AggregationUnitsBuilder(final List<AggregationSelectItem> aggregationSelectItems, final List<QueryResult> queryResults, final int approximateCountDistinctPrecision) throws SQLException {
+        this.aggregationSelectItems = aggregationSelectItems;
+        this.approximateCountDistinctPrecision = approximateCountDistinctPrecision;
+        columnTypes = getColumnTypes(queryResults.isEmpty() ? null : queryResults.get(0).getQueryResultMetaData());
+    }
+    
+    private int[][] getColumnTypes(final QueryResultMetaData queryResultMetaData) throws SQLException {
+        int[][] result = new int[aggregationSelectItems.size()][];
+        int index = 0;
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            result[index++] = null == queryResultMetaData ? new int[0] : getColumnTypes(queryResultMetaData, each);
+        }
+        return result;
+    }
+    
+    private int[] getColumnTypes(final QueryResultMetaData queryResultMetaData, final AggregationSelectItem aggregationSelectItem) throws SQLException {
+        if (aggregationSelectItem.getDerivedAggregationItems().isEmpty()) {
+            return new int[] {queryResultMetaData.getColumnType(aggregationSelectItem.getIndex())};
+        }
+        int[] result = new int[aggregationSelectItem.getDerivedAggregationItems().size()];
+        int index = 0;
+        for (AggregationSelectItem each : aggregationSelectItem.getDerivedAggregationItems()) {
+            result[index++] = queryResultMetaData.getColumnType(each.getIndex());
+        }
+        return result;
+    }
+    
+    /**
+     * Build aggregation units for a group.
+     * 
+     * @return aggregation units, in same order of aggregation select items
+     */
+    AggregationUnit[] build() {
+        AggregationUnit[] result = new AggregationUnit[columnTypes.length];
+        int index = 0;
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            result[index] = approximateCountDistinctPrecision > 0 && each instanceof AggregationDistinctSelectItem
+                    ? new HyperLogLogAggregationUnit(approximateCountDistinctPrecision) : AggregationUnitFactory.create(each.getType(), columnTypes[index]);
+            index++;
+        }
+        return result;
+    }
+}
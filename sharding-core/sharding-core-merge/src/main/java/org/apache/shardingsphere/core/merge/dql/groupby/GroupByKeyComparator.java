@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Group by key comparator.
+ * 
+ * <p>Values are compared case sensitive, so rows compared as equal always belong to same group.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class GroupByKeyComparator implements Comparator<MemoryQueryResultRow> {
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+        for (OrderByItem each : groupByItems) {
+            Object groupValue1 = o1.getCell(each.getIndex());
+            Preconditions.checkState(null == groupValue1 || groupValue1 instanceof Comparable, "Group by value must implements Comparable");
+            Object groupValue2 = o2.getCell(each.getIndex());
+            Preconditions.checkState(null == groupValue2 || groupValue2 instanceof Comparable, "Group by value must implements Comparable");
+            int result = CompareUtil.compareTo((Comparable) groupValue1, (Comparable) groupValue2, each.getSegment().getOrderDirection(), each.getSegment().getNullOrderDirection(), true);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -17,15 +17,12 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
 
@@ -48,23 +45,35 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final List<AggregationSelectItem> aggregationSelectItems;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final ShardingSelectOptimizedStatement optimizedStatement) throws SQLException {
         super(labelAndIndexMap);
         this.optimizedStatement = optimizedStatement;
+        aggregationSelectItems = optimizedStatement.getSelectItems().getAggregationSelectItems();
         memoryResultSetRows = init(queryResults);
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024);
+        AggregationUnitsBuilder aggregationUnitsBuilder = new AggregationUnitsBuilder(aggregationSelectItems, queryResults,
+                optimizedStatement.isApproximateCountDistinct() ? optimizedStatement.getApproximateCountDistinctPrecision() : 0);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, optimizedStatement.getGroupBy().getItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+                AggregationUnit[] aggregationUnits = aggregationMap.get(groupByValue);
+                if (null == aggregationUnits) {
+                    aggregationUnits = aggregationUnitsBuilder.build();
+                    dataMap.put(groupByValue, new MemoryQueryResultRow(each));
+                    aggregationMap.put(groupByValue, aggregationUnits);
+                }
+                aggregate(each, aggregationUnits);
             }
         }
         setAggregationValueToMemoryRow(dataMap, aggregationMap);
@@ -76,34 +85,18 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result.iterator();
     }
     
-    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
-        }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(optimizedStatement.getSelectItems().getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
-                }
-            });
-            aggregationMap.put(groupByValue, map);
-        }
-    }
-    
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+    private void aggregate(final QueryResult queryResult, final AggregationUnit[] aggregationUnits) throws SQLException {
+        int index = 0;
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            aggregationValues.clear();
             if (each.getDerivedAggregationItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+                aggregationValues.add(getAggregationValue(queryResult, each));
             } else {
                 for (AggregationSelectItem derived : each.getDerivedAggregationItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[index++].merge(aggregationValues);
         }
     }
     
@@ -113,10 +106,12 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            AggregationUnit[] aggregationUnits = aggregationMap.get(entry.getKey());
+            int index = 0;
+            for (AggregationSelectItem each : aggregationSelectItems) {
+                entry.getValue().setCell(each.getIndex(), aggregationUnits[index++].getResult());
             }
         }
     }
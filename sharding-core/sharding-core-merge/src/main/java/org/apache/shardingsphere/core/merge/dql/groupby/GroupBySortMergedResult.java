@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.optimize.sharding.segment.pagination.Pagination;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Sort merged result for group by.
+ * 
+ * <p>
+ * Groups are merged in stream which sorted by group by items from shards, 
+ * then sorted by order by items in memory and only the rows within pagination will be kept.
+ * </p>
+ *
+ * @author agent
+ */
+public final class GroupBySortMergedResult extends MemoryMergedResult {
+    
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    public GroupBySortMergedResult(
+            final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final ShardingSelectOptimizedStatement optimizedStatement) throws SQLException {
+        super(labelAndIndexMap);
+        memoryResultSetRows = init(new GroupByStreamMergedResult(labelAndIndexMap, queryResults, optimizedStatement), queryResults.get(0), optimizedStatement);
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(
+            final MergedResult groupByMergedResult, final QueryResult queryResult, final ShardingSelectOptimizedStatement optimizedStatement) throws SQLException {
+        Comparator<MemoryQueryResultRow> comparator = new GroupByRowComparator(optimizedStatement, getValueCaseSensitive(queryResult));
+        Optional<Long> maxRowCount = getMaxRowCount(optimizedStatement.getPagination());
+        int columnCount = queryResult.getColumnCount();
+        List<MemoryQueryResultRow> result = maxRowCount.isPresent()
+                ? getTopRows(groupByMergedResult, columnCount, comparator, maxRowCount.get()) : getSortedRows(groupByMergedResult, columnCount, comparator);
+        if (!result.isEmpty()) {
+            setCurrentResultSetRow(result.get(0));
+        }
+        return result.iterator();
+    }
+    
+    private Optional<Long> getMaxRowCount(final Pagination pagination) {
+        if (!pagination.isHasPagination() || !pagination.getActualRowCount().isPresent()) {
+            return Optional.absent();
+        }
+        return Optional.of(pagination.getActualOffset() + pagination.getActualRowCount().get());
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
+        List<Boolean> result = Lists.newArrayList(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(queryResult.isCaseSensitive(columnIndex));
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getTopRows(
+            final MergedResult groupByMergedResult, final int columnCount, final Comparator<MemoryQueryResultRow> comparator, final long maxRowCount) throws SQLException {
+        PriorityQueue<MemoryQueryResultRow> heap = new PriorityQueue<>((int) Math.max(1L, Math.min(maxRowCount, MAX_INITIAL_CAPACITY)), Collections.reverseOrder(comparator));
+        while (groupByMergedResult.next()) {
+            MemoryQueryResultRow row = new MemoryQueryResultRow(groupByMergedResult, columnCount);
+            if (heap.size() < maxRowCount) {
+                heap.offer(row);
+            } else if (!heap.isEmpty() && comparator.compare(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(row);
+            }
+        }
+        LinkedList<MemoryQueryResultRow> result = new LinkedList<>();
+        while (!heap.isEmpty()) {
+            result.addFirst(heap.poll());
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final MergedResult groupByMergedResult, final int columnCount, final Comparator<MemoryQueryResultRow> comparator) throws SQLException {
+        List<MemoryQueryResultRow> result = new ArrayList<>();
+        while (groupByMergedResult.next()) {
+            result.add(new MemoryQueryResultRow(groupByMergedResult, columnCount));
+        }
+        Collections.sort(result, comparator);
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            setCurrentResultSetRow(memoryResultSetRows.next());
+            return true;
+        }
+        return false;
+    }
+}
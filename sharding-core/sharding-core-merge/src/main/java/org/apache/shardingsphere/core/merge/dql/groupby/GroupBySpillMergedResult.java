@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.spill.ExternalRowSorter;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Memory merged result for group by which spills partial aggregations to temporary files.
+ * 
+ * <p>
+ * Rows are aggregated in memory until the count of groups exceeds the threshold,
+ * then the partial aggregations will be spilled as sorted runs of group by values.
+ * Sorted runs will be merged and aggregated again, and the aggregated rows will be sorted externally by order by items.
+ * Groups being aggregated and rows buffered by sorters share the threshold, rows are moved rather than copied between them.
+ * Temporary files are deleted when they have been read completely or this merged result is closed.
+ * </p>
+ *
+ * @author agent
+ */
+public final class GroupBySpillMergedResult extends MemoryMergedResult implements Closeable {
+    
+    private final ShardingSelectOptimizedStatement optimizedStatement;
+    
+    private final int maxGroupsInMemory;
+    
+    private final List<AggregationSelectItem> partialAggregationItems;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(1);
+    
+    private final GroupByKeyComparator groupByKeyComparator;
+    
+    private final ExternalRowSorter partialRowSorter;
+    
+    private final ExternalRowSorter resultRowSorter;
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    public GroupBySpillMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                    final ShardingSelectOptimizedStatement optimizedStatement, final int maxGroupsInMemory) throws SQLException {
+        super(labelAndIndexMap);
+        this.optimizedStatement = optimizedStatement;
+        this.maxGroupsInMemory = maxGroupsInMemory;
+        partialAggregationItems = getPartialAggregationItems();
+        int columnCount = queryResults.get(0).getColumnCount();
+        groupByKeyComparator = new GroupByKeyComparator(optimizedStatement.getGroupBy().getItems());
+        partialRowSorter = new ExternalRowSorter(groupByKeyComparator, columnCount + partialAggregationItems.size(), maxGroupsInMemory);
+        resultRowSorter = new ExternalRowSorter(new GroupByRowComparator(optimizedStatement, getValueCaseSensitive(queryResults.get(0))), columnCount, maxGroupsInMemory);
+        boolean initialized = false;
+        try {
+            memoryResultSetRows = init(queryResults, columnCount);
+            initialized = true;
+        } catch (final IOException ex) {
+            throw new ShardingException("Can not spill rows of group by merge.", ex);
+        } finally {
+            if (!initialized) {
+                closeSorters();
+            }
+        }
+    }
+    
+    private List<AggregationSelectItem> getPartialAggregationItems() {
+        List<AggregationSelectItem> result = new ArrayList<>();
+        for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
+            if (each.getDerivedAggregationItems().isEmpty()) {
+                result.add(each);
+            } else {
+                result.addAll(each.getDerivedAggregationItems());
+            }
+        }
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults, final int columnCount) throws SQLException, IOException {
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024);
+        AggregationUnitsBuilder aggregationUnitsBuilder = new AggregationUnitsBuilder(partialAggregationItems, queryResults);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, optimizedStatement.getGroupBy().getItems());
+                AggregationUnit[] aggregationUnits = aggregationMap.get(groupByValue);
+                if (null == aggregationUnits) {
+                    if (dataMap.size() >= maxGroupsInMemory) {
+                        spillPartialRows(dataMap, aggregationMap, columnCount);
+                    }
+                    aggregationUnits = aggregationUnitsBuilder.build();
+                    dataMap.put(groupByValue, new MemoryQueryResultRow(each));
+                    aggregationMap.put(groupByValue, aggregationUnits);
+                }
+                aggregate(each, aggregationUnits);
+            }
+        }
+        if (partialRowSorter.isEmpty()) {
+            Iterator<Entry<GroupByValue, MemoryQueryResultRow>> entries = dataMap.entrySet().iterator();
+            while (entries.hasNext()) {
+                Entry<GroupByValue, MemoryQueryResultRow> entry = entries.next();
+                entries.remove();
+                setAggregationValueToMemoryRow(entry.getValue(), aggregationMap.remove(entry.getKey()));
+                resultRowSorter.add(entry.getValue());
+            }
+        } else {
+            spillPartialRows(dataMap, aggregationMap, columnCount);
+            mergePartialRows(partialRowSorter.sort(), columnCount);
+        }
+        return resultRowSorter.sort();
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[partialAggregationItems.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = AggregationUnitFactory.create(partialAggregationItems.get(i).getType());
+        }
+        return result;
+    }
+    
+    private void aggregate(final QueryResult queryResult, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            Object value = queryResult.getValue(partialAggregationItems.get(i).getIndex(), Object.class);
+            Preconditions.checkState(null == value || value instanceof Comparable, "Aggregation value must implements Comparable");
+            merge(aggregationUnits[i], (Comparable<?>) value);
+        }
+    }
+    
+    private void merge(final AggregationUnit aggregationUnit, final Comparable<?> value) {
+        aggregationValues.clear();
+        aggregationValues.add(value);
+        aggregationUnit.merge(aggregationValues);
+    }
+    
+    private void spillPartialRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap, final int columnCount) throws IOException {
+        Iterator<Entry<GroupByValue, MemoryQueryResultRow>> entries = dataMap.entrySet().iterator();
+        while (entries.hasNext()) {
+            Entry<GroupByValue, MemoryQueryResultRow> entry = entries.next();
+            entries.remove();
+            AggregationUnit[] aggregationUnits = aggregationMap.remove(entry.getKey());
+            Object[] partialRow = new Object[columnCount + aggregationUnits.length];
+            for (int i = 0; i < columnCount; i++) {
+                partialRow[i] = entry.getValue().getCell(i + 1);
+            }
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                partialRow[columnCount + i] = aggregationUnits[i].getResult();
+            }
+            partialRowSorter.add(new MemoryQueryResultRow(partialRow));
+        }
+        partialRowSorter.spill();
+    }
+    
+    private void mergePartialRows(final Iterator<MemoryQueryResultRow> partialRows, final int columnCount) throws IOException {
+        MemoryQueryResultRow currentRow = null;
+        AggregationUnit[] currentAggregationUnits = null;
+        while (partialRows.hasNext()) {
+            MemoryQueryResultRow each = partialRows.next();
+            if (null == currentRow || 0 != groupByKeyComparator.compare(currentRow, each)) {
+                if (null != currentRow) {
+                    resultRowSorter.add(createResultRow(currentRow, currentAggregationUnits, columnCount));
+                }
+                currentRow = each;
+                currentAggregationUnits = createAggregationUnits();
+            }
+            for (int i = 0; i < currentAggregationUnits.length; i++) {
+                merge(currentAggregationUnits[i], (Comparable<?>) each.getCell(columnCount + i + 1));
+            }
+        }
+        if (null != currentRow) {
+            resultRowSorter.add(createResultRow(currentRow, currentAggregationUnits, columnCount));
+        }
+    }
+    
+    private MemoryQueryResultRow createResultRow(final MemoryQueryResultRow partialRow, final AggregationUnit[] aggregationUnits, final int columnCount) {
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = partialRow.getCell(i + 1);
+        }
+        MemoryQueryResultRow result = new MemoryQueryResultRow(data);
+        setAggregationValueToMemoryRow(result, aggregationUnits);
+        return result;
+    }
+    
+    private void setAggregationValueToMemoryRow(final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+        int unitIndex = 0;
+        for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
+            if (each.getDerivedAggregationItems().isEmpty()) {
+                row.setCell(each.getIndex(), aggregationUnits[unitIndex++].getResult());
+                continue;
+            }
+            List<Comparable<?>> derivedValues = new ArrayList<>(each.getDerivedAggregationItems().size());
+            for (AggregationSelectItem derived : each.getDerivedAggregationItems()) {
+                Comparable<?> derivedValue = aggregationUnits[unitIndex++].getResult();
+                row.setCell(derived.getIndex(), derivedValue);
+                derivedValues.add(derivedValue);
+            }
+            AggregationUnit aggregationUnit = AggregationUnitFactory.create(each.getType());
+            aggregationUnit.merge(derivedValues);
+            row.setCell(each.getIndex(), aggregationUnit.getResult());
+        }
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
+        List<Boolean> result = Lists.newArrayList(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(queryResult.isCaseSensitive(columnIndex));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            setCurrentResultSetRow(memoryResultSetRows.next());
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            partialRowSorter.close();
+        } finally {
+            resultRowSorter.close();
+        }
+    }
+    
+    private void closeSorters() {
+        try {
+            close();
+        } catch (final IOException ignored) {
+        }
+    }
+}
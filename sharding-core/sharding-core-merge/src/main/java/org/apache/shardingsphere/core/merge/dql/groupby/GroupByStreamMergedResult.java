@@ -17,23 +17,22 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
-import com.google.common.base.Function;
+import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Stream merged result for group by.
@@ -46,24 +45,37 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final List<AggregationSelectItem> aggregationSelectItems;
+    
+    private final AggregationUnitsBuilder aggregationUnitsBuilder;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final ShardingSelectOptimizedStatement optimizedStatement) throws SQLException {
-        super(queryResults, optimizedStatement.getOrderBy().getItems());
+        super(queryResults, getStreamOrderByItems(optimizedStatement));
         this.labelAndIndexMap = labelAndIndexMap;
         this.optimizedStatement = optimizedStatement;
+        aggregationSelectItems = optimizedStatement.getSelectItems().getAggregationSelectItems();
+        aggregationUnitsBuilder = new AggregationUnitsBuilder(aggregationSelectItems, queryResults,
+                optimizedStatement.isApproximateCountDistinct() ? optimizedStatement.getApproximateCountDistinctPrecision() : 0);
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentGroupByValues = getOrderByValuesTree().isEmpty()
                 ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), optimizedStatement.getGroupBy().getItems()).getGroupValues();
     }
     
+    private static Collection<OrderByItem> getStreamOrderByItems(final ShardingSelectOptimizedStatement optimizedStatement) {
+        return optimizedStatement.isOrderByGroupByItemsForShards() ? optimizedStatement.getGroupBy().getItems() : optimizedStatement.getOrderBy().getItems();
+    }
+    
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValuesTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -77,37 +89,44 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
-        Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                optimizedStatement.getSelectItems().getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                    
-                    @Override
-                    public AggregationUnit apply(final AggregationSelectItem input) {
-                        return AggregationUnitFactory.create(input.getType());
-                    }
-                });
-        while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), optimizedStatement.getGroupBy().getItems()).getGroupValues())) {
-            aggregate(aggregationUnitMap);
+        AggregationUnit[] aggregationUnits = aggregationUnitsBuilder.build();
+        while (isSameGroupByValues()) {
+            aggregate(aggregationUnits);
             cacheCurrentRow();
             result = super.next();
             if (!result) {
                 break;
             }
         }
-        setAggregationValueToCurrentRow(aggregationUnitMap);
+        setAggregationValueToCurrentRow(aggregationUnits);
         return result;
     }
     
-    private void aggregate(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) throws SQLException {
-        for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (entry.getKey().getDerivedAggregationItems().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+    private boolean isSameGroupByValues() throws SQLException {
+        if (currentGroupByValues.size() != optimizedStatement.getGroupBy().getItems().size()) {
+            return false;
+        }
+        int i = 0;
+        for (OrderByItem each : optimizedStatement.getGroupBy().getItems()) {
+            if (!Objects.equal(currentGroupByValues.get(i++), getCurrentQueryResult().getValue(each.getIndex(), Object.class))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void aggregate(final AggregationUnit[] aggregationUnits) throws SQLException {
+        int index = 0;
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            aggregationValues.clear();
+            if (each.getDerivedAggregationItems().isEmpty()) {
+                aggregationValues.add(getAggregationValue(each));
             } else {
-                for (AggregationSelectItem each : entry.getKey().getDerivedAggregationItems()) {
-                    values.add(getAggregationValue(each));
+                for (AggregationSelectItem derived : each.getDerivedAggregationItems()) {
+                    aggregationValues.add(getAggregationValue(derived));
                 }
             }
-            entry.getValue().merge(values);
+            aggregationUnits[index++].merge(aggregationValues);
         }
     }
     
@@ -123,9 +142,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToCurrentRow(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) {
-        for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+    private void setAggregationValueToCurrentRow(final AggregationUnit[] aggregationUnits) {
+        int index = 0;
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            currentRow.set(each.getIndex() - 1, aggregationUnits[index++].getResult());
         }
     }
     
@@ -17,9 +17,9 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -27,24 +27,25 @@ import java.util.List;
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private final NumberAccumulator accumulator;
+    
+    public AccumulationAggregationUnit() {
+        this(new DecimalAccumulator());
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (null == result) {
-            result = new BigDecimal("0");
-        }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        accumulator.add(values.get(0));
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return accumulator.getResult();
     }
 }
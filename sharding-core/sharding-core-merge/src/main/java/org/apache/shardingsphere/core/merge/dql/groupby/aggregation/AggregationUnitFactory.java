@@ -21,10 +21,13 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  * 
  * @author gaohongtao
+ * @author zhangliang
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class AggregationUnitFactory {
@@ -36,6 +39,21 @@ public final class AggregationUnitFactory {
      * @return aggregation unit instance
      */
     public static AggregationUnit create(final AggregationType type) {
+        return create(type, new int[0]);
+    }
+    
+    /**
+     * Create aggregation unit instance for values of column types.
+     * 
+     * <p>
+     * Integral columns are accumulated in primitive long, floating point columns in primitive double, others in exact decimal.
+     * </p>
+     * 
+     * @param type aggregation function type
+     * @param columnTypes column types of aggregation values which are defined in {@code java.sql.Types}, count and sum column types for AVG
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final int... columnTypes) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -43,11 +61,29 @@ public final class AggregationUnitFactory {
                 return new ComparableAggregationUnit(true);
             case SUM:
             case COUNT:
-                return new AccumulationAggregationUnit();
+                return new AccumulationAggregationUnit(createAccumulator(columnTypes, 0));
             case AVG:
-                return new AverageAggregationUnit();
+                return new AverageAggregationUnit(createAccumulator(columnTypes, 0), createAccumulator(columnTypes, 1));
             default:
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    private static NumberAccumulator createAccumulator(final int[] columnTypes, final int index) {
+        if (index >= columnTypes.length) {
+            return new DecimalAccumulator();
+        }
+        switch (columnTypes[index]) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongAccumulator();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleAccumulator();
+            default:
+                return new DecimalAccumulator();
+        }
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
@@ -27,34 +28,33 @@ import java.util.List;
  * 
  * @author gaohongtao
  */
-@RequiredArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final NumberAccumulator count;
     
-    private BigDecimal sum;
+    private final NumberAccumulator sum;
+    
+    public AverageAggregationUnit() {
+        this(new DecimalAccumulator(), new DecimalAccumulator());
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (null == count) {
-            count = new BigDecimal("0");
-        }
-        if (null == sum) {
-            sum = new BigDecimal("0");
-        }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        count.add(values.get(0));
+        sum.add(values.get(1));
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
-            return count;
+        BigDecimal countResult = count.getResult();
+        if (null == countResult || 0 == countResult.signum()) {
+            return countResult;
         }
         // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, BigDecimal.ROUND_HALF_UP);
+        return sum.getResult().divide(countResult, 4, BigDecimal.ROUND_HALF_UP);
     }
 }
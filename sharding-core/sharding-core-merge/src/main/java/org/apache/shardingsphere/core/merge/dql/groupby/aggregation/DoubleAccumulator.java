@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Number accumulator for approximate floating point values.
+ * 
+ * <p>
+ * Accumulate in primitive double, and promote to exact decimal if value is neither double nor integral.
+ * </p>
+ *
+ * @author agent
+ */
+final class DoubleAccumulator implements NumberAccumulator {
+    
+    private boolean empty = true;
+    
+    private double sum;
+    
+    private BigDecimal promotedSum;
+    
+    @Override
+    public void add(final Object value) {
+        if (null != promotedSum) {
+            promotedSum = promotedSum.add(DecimalAccumulator.toBigDecimal(value));
+            return;
+        }
+        if (value instanceof Double || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            sum += ((Number) value).doubleValue();
+            empty = false;
+            return;
+        }
+        promotedSum = empty ? DecimalAccumulator.toBigDecimal(value) : BigDecimal.valueOf(sum).add(DecimalAccumulator.toBigDecimal(value));
+        empty = false;
+    }
+    
+    @Override
+    public BigDecimal getResult() {
+        if (null != promotedSum) {
+            return promotedSum;
+        }
+        return empty ? null : BigDecimal.valueOf(sum);
+    }
+}
@@ -15,37 +15,34 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.shardingjdbc.jdbc.adapter.invocation;
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 
-import lombok.Getter;
-
-import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.List;
 
 /**
- * Invocation that reflected call for {@code PreparedStatement.setParameter} method.
+ * HyperLogLog aggregation unit for approximate count distinct.
  * 
  * @author zhangliang
  */
-public final class SetParameterMethodInvocation extends JdbcMethodInvocation {
+public final class HyperLogLogAggregationUnit implements AggregationUnit {
     
-    @Getter
-    private final int index;
+    private final HyperLogLog hyperLogLog;
     
-    @Getter
-    private final Object value;
+    public HyperLogLogAggregationUnit(final int precision) {
+        hyperLogLog = new HyperLogLog(precision);
+    }
     
-    public SetParameterMethodInvocation(final Method method, final Object[] arguments, final Object value) {
-        super(method, arguments);
-        this.index = (int) arguments[0];
-        this.value = value;
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        hyperLogLog.add(values.get(0));
     }
     
-    /**
-     * Set argument.
-     * 
-     * @param value argument value
-     */
-    public void changeValueArgument(final Object value) {
-        getArguments()[1] = value;
+    @Override
+    public Comparable<?> getResult() {
+        return BigDecimal.valueOf(hyperLogLog.cardinality());
     }
 }
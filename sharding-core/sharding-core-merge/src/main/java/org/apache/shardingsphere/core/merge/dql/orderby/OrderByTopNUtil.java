@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+/**
+ * Order by top N util.
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OrderByTopNUtil {
+    
+    /**
+     * Judge whether the select statement is top N of order by.
+     * 
+     * <p>
+     * Actual statements of top N order by can be hinted to fetch offset + row count rows only,
+     * because the rest rows of any shard can never enter the page.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param shardingStatement sharding select optimized statement
+     * @param shardingProperties sharding properties
+     * @return is top N order by or not
+     */
+    public static boolean isTopNOrderBy(final DatabaseType databaseType, final ShardingSelectOptimizedStatement shardingStatement, final ShardingProperties shardingProperties) {
+        if (!shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.ORDER_BY_TOP_N_MERGE_ENABLED)) {
+            return false;
+        }
+        if (!shardingStatement.getGroupBy().getItems().isEmpty() || !shardingStatement.getSelectItems().getAggregationSelectItems().isEmpty()
+                || shardingStatement.getOrderBy().getItems().isEmpty() || !shardingStatement.getPagination().isHasPagination() || shardingStatement.isOrderByDistinctItemsForShards()) {
+            return false;
+        }
+        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
+        return "MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName);
+    }
+    
+    /**
+     * Get max rows hint for actual statements.
+     *
+     * @param databaseType database type
+     * @param optimizedStatement optimized statement
+     * @param shardingProperties sharding properties
+     * @return max rows hint, absent if statement is not top N order by or its row count is unknown
+     */
+    public static Optional<Integer> getMaxRowsHint(final DatabaseType databaseType, final OptimizedStatement optimizedStatement, final ShardingProperties shardingProperties) {
+        if (!(optimizedStatement instanceof ShardingSelectOptimizedStatement)) {
+            return Optional.absent();
+        }
+        ShardingSelectOptimizedStatement shardingStatement = (ShardingSelectOptimizedStatement) optimizedStatement;
+        if (!isTopNOrderBy(databaseType, shardingStatement, shardingProperties) || !shardingStatement.getPagination().getActualRowCount().isPresent()) {
+            return Optional.absent();
+        }
+        long revisedRowCount = shardingStatement.getPagination().getRevisedRowCount(shardingStatement);
+        return revisedRowCount > 0 && revisedRowCount < Integer.MAX_VALUE ? Optional.of((int) revisedRowCount) : Optional.<Integer>absent();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Each internal node keeps the loser of its sub tournament and the root keeps the winner,
+ * so moving the winner to its next row only replays the path from its leaf to the root,
+ * which costs one comparison per level instead of the two sift operations of a binary heap.
+ * Exhausted order by values are kept as empty leaves which lose all matches.
+ * </p>
+ *
+ * @author agent
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int MIN_LEAF = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        tree = new int[leaves.length];
+        Arrays.fill(tree, MIN_LEAF);
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted or not.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return null == peek();
+    }
+    
+    /**
+     * Get current winner.
+     * 
+     * @return current winner, null if all order by values are exhausted
+     */
+    public OrderByValue peek() {
+        return 0 == leaves.length ? null : leaves[tree[0]];
+    }
+    
+    /**
+     * Move current winner to its next row and replay the tournament.
+     * 
+     * @return has next winner
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        int winner = tree[0];
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+        }
+        adjust(winner);
+        return !isEmpty();
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + leaves.length) / 2; parent > 0; parent /= 2) {
+            if (beats(tree[parent], winner)) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (MIN_LEAF == leaf) {
+            return true;
+        }
+        if (MIN_LEAF == otherLeaf || null == leaves[leaf]) {
+            return false;
+        }
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[leaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+}
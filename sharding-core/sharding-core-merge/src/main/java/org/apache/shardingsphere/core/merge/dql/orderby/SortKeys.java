@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaData;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Sort keys of current row.
+ * 
+ * <p>
+ * Sort key types are decided by column types once,
+ * then order by values of each row are encoded into reusable primitive buffers,
+ * case insensitive strings are upper cased once per row instead of once per comparison.
+ * Values which do not match the column type are compared by {@code CompareUtil}.
+ * </p>
+ *
+ * @author agent
+ */
+public final class SortKeys {
+    
+    private final int[] columnIndexes;
+    
+    private final SortKeyType[] columnKeyTypes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final boolean[] caseSensitives;
+    
+    private final SortKeyType[] keyTypes;
+    
+    private final Object[] values;
+    
+    private final Object[] objectKeys;
+    
+    private final long[] longKeys;
+    
+    private final int[] nanoKeys;
+    
+    private final double[] doubleKeys;
+    
+    public SortKeys(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) throws SQLException {
+        int size = orderByItems.size();
+        columnIndexes = new int[size];
+        columnKeyTypes = new SortKeyType[size];
+        orderDirections = new OrderDirection[size];
+        nullOrderDirections = new OrderDirection[size];
+        caseSensitives = new boolean[size];
+        keyTypes = new SortKeyType[size];
+        values = new Object[size];
+        objectKeys = new Object[size];
+        longKeys = new long[size];
+        nanoKeys = new int[size];
+        doubleKeys = new double[size];
+        QueryResultMetaData queryResultMetaData = queryResult.getQueryResultMetaData();
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            columnIndexes[i] = each.getIndex();
+            columnKeyTypes[i] = null == queryResultMetaData ? SortKeyType.OBJECT : SortKeyType.valueOfColumnType(queryResultMetaData.getColumnType(each.getIndex()));
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            caseSensitives[i] = queryResult.isCaseSensitive(each.getIndex());
+            i++;
+        }
+    }
+    
+    /**
+     * Load sort keys from current row of query result.
+     * 
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void load(final QueryResult queryResult) throws SQLException {
+        for (int i = 0; i < columnIndexes.length; i++) {
+            Object value = queryResult.getValue(columnIndexes[i], Object.class);
+            Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
+            values[i] = value;
+            keyTypes[i] = null == value ? SortKeyType.OBJECT : encode(i, value);
+        }
+    }
+    
+    private SortKeyType encode(final int index, final Object value) {
+        switch (columnKeyTypes[index]) {
+            case LONG:
+                if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    longKeys[index] = ((Number) value).longValue();
+                    return SortKeyType.LONG;
+                }
+                return SortKeyType.OBJECT;
+            case DOUBLE:
+                if (value instanceof Double || value instanceof Float) {
+                    doubleKeys[index] = ((Number) value).doubleValue();
+                    return SortKeyType.DOUBLE;
+                }
+                return SortKeyType.OBJECT;
+            case DECIMAL:
+                if (value instanceof BigDecimal) {
+                    objectKeys[index] = value;
+                    return SortKeyType.DECIMAL;
+                }
+                return SortKeyType.OBJECT;
+            case STRING:
+                if (value instanceof String) {
+                    objectKeys[index] = caseSensitives[index] ? value : ((String) value).toUpperCase();
+                    return SortKeyType.STRING;
+                }
+                return SortKeyType.OBJECT;
+            case TIMESTAMP:
+                if (value instanceof Date) {
+                    longKeys[index] = ((Date) value).getTime();
+                    nanoKeys[index] = value instanceof Timestamp ? ((Timestamp) value).getNanos() : -1;
+                    return SortKeyType.TIMESTAMP;
+                }
+                return SortKeyType.OBJECT;
+            default:
+                return SortKeyType.OBJECT;
+        }
+    }
+    
+    /**
+     * Compare with other sort keys.
+     * 
+     * @param other other sort keys
+     * @return compare result
+     */
+    public int compareTo(final SortKeys other) {
+        for (int i = 0; i < columnIndexes.length; i++) {
+            int result = compareTo(other, i);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private int compareTo(final SortKeys other, final int index) {
+        SortKeyType keyType = keyTypes[index];
+        if (SortKeyType.OBJECT == keyType || keyType != other.keyTypes[index]) {
+            return CompareUtil.compareTo((Comparable) values[index], (Comparable) other.values[index], orderDirections[index], nullOrderDirections[index], caseSensitives[index]);
+        }
+        int result = compareKeys(other, index, keyType);
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private int compareKeys(final SortKeys other, final int index, final SortKeyType keyType) {
+        switch (keyType) {
+            case LONG:
+                return Long.compare(longKeys[index], other.longKeys[index]);
+            case DOUBLE:
+                return Double.compare(doubleKeys[index], other.doubleKeys[index]);
+            case DECIMAL:
+                return ((BigDecimal) objectKeys[index]).compareTo((BigDecimal) other.objectKeys[index]);
+            case STRING:
+                return ((String) objectKeys[index]).compareTo((String) other.objectKeys[index]);
+            case TIMESTAMP:
+                int result = Long.compare(longKeys[index], other.longKeys[index]);
+                return 0 != result || nanoKeys[index] < 0 || other.nanoKeys[index] < 0 ? result : Integer.compare(nanoKeys[index], other.nanoKeys[index]);
+            default:
+                throw new UnsupportedOperationException(keyType.name());
+        }
+    }
+}
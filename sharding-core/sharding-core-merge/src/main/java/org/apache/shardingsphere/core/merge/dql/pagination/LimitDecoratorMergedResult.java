@@ -21,10 +21,13 @@ import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.DecoratorMergedResult;
 import org.apache.shardingsphere.core.optimize.sharding.segment.pagination.Pagination;
 
+import java.io.IOException;
 import java.sql.SQLException;
 
 /**
  * Decorator merged result for limit pagination.
+ * 
+ * <p>Decorated merged result is closed as soon as the page is complete, because its rest rows can never enter the page.</p>
  *
  * @author zhangliang
  */
@@ -60,6 +63,18 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= pagination.getActualRowCount().get() && getMergedResult().next();
+        if (++rowNumber <= pagination.getActualRowCount().get() && getMergedResult().next()) {
+            return true;
+        }
+        closeMergedResult();
+        return false;
+    }
+    
+    private void closeMergedResult() throws SQLException {
+        try {
+            close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
     }
 }
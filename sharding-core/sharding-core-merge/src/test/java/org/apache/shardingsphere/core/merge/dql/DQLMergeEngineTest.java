@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.core.merge.dql;
 
 import com.google.common.collect.Lists;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
@@ -33,7 +36,9 @@ import org.apache.shardingsphere.core.optimize.encrypt.statement.EncryptTranspar
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.sharding.segment.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationDistinctSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.ColumnSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItems;
 import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderBy;
@@ -46,6 +51,7 @@ import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.rownum.NumberLiteralRowNumberValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
@@ -59,6 +65,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -385,4 +392,34 @@ public final class DQLMergeEngineTest {
         assertThat(actual, instanceOf(TopAndRowNumberDecoratorMergedResult.class));
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
+    
+    @Test
+    public void assertBuildDistinctStreamMergedResult() throws SQLException {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setWhere(new WhereSegment(0, 0, 0));
+        SelectItems selectItems = new SelectItems(0, 0, true, Collections.<SelectItem>singletonList(new ColumnSelectItem(null, "order_id", null)), Collections.<TableSegment>emptyList(), null);
+        ShardingSelectOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(selectStatement, 
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false), selectItems, new Pagination(null, null, Collections.emptyList()));
+        shardingStatement.setDistinctStreamMergeEnabled(true);
+        SQLRouteResult routeResult = new SQLRouteResult(
+                shardingStatement, new EncryptTransparentOptimizedStatement(selectStatement), new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        assertThat(mergeEngine.merge(), instanceOf(DistinctStreamMergedResult.class));
+    }
+    
+    @Test
+    public void assertBuildGroupByMemoryMergedResultWithApproximateCountDistinct() throws SQLException {
+        SelectItems selectItems = new SelectItems(0, 0, false, 
+                Collections.<SelectItem>singletonList(new AggregationDistinctSelectItem(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", "count(*)", "order_id")), 
+                Collections.<TableSegment>emptyList(), null);
+        ShardingSelectOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(new SelectStatement(), 
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false), selectItems, new Pagination(null, null, Collections.emptyList()));
+        shardingStatement.setApproximateCountDistinctPrecision(14);
+        SQLRouteResult routeResult = new SQLRouteResult(
+                shardingStatement, new EncryptTransparentOptimizedStatement(new SelectStatement()), new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), "1");
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults, new ShardingProperties(props));
+        assertThat(mergeEngine.merge(), instanceOf(GroupByMemoryMergedResult.class));
+    }
 }
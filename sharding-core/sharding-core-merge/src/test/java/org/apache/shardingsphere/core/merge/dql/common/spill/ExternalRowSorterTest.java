@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common.spill;
+
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExternalRowSorterTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = new Comparator<MemoryQueryResultRow>() {
+        
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            return ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1));
+        }
+    };
+    
+    @Test
+    public void assertSortInMemory() throws IOException {
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 1, 10);
+        assertTrue(externalRowSorter.isEmpty());
+        addRows(externalRowSorter, 3, 1, 2);
+        assertFalse(externalRowSorter.isEmpty());
+        assertFalse(externalRowSorter.isSpilled());
+        assertRows(externalRowSorter.sort(), 1, 2, 3);
+    }
+    
+    @Test
+    public void assertSortWithSpill() throws IOException {
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 1, 2);
+        addRows(externalRowSorter, 7, 3, 5, 1, 6, 2, 4);
+        assertTrue(externalRowSorter.isSpilled());
+        assertRows(externalRowSorter.sort(), 1, 2, 3, 4, 5, 6, 7);
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws IOException {
+        int originalSpillFileCount = countSpillFiles();
+        ExternalRowSorter externalRowSorter = new ExternalRowSorter(comparator, 1, 2);
+        addRows(externalRowSorter, 7, 3, 5, 1, 6, 2, 4);
+        Iterator<MemoryQueryResultRow> actual = externalRowSorter.sort();
+        assertThat((Integer) actual.next().getCell(1), is(1));
+        assertThat(countSpillFiles(), is(originalSpillFileCount + 4));
+        externalRowSorter.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithoutPositiveMaxRowsInMemory() {
+        new ExternalRowSorter(comparator, 1, 0);
+    }
+    
+    private void addRows(final ExternalRowSorter externalRowSorter, final int... values) throws IOException {
+        for (int each : values) {
+            externalRowSorter.add(new MemoryQueryResultRow(new Object[] {each}));
+        }
+    }
+    
+    private int countSpillFiles() {
+        String[] actual = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-merge-") && name.endsWith(".spill");
+            }
+        });
+        return null == actual ? 0 : actual.length;
+    }
+    
+    private void assertRows(final Iterator<MemoryQueryResultRow> actual, final int... expected) {
+        for (int each : expected) {
+            assertTrue(actual.hasNext());
+            assertThat((Integer) actual.next().getCell(1), is(each));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common.spill;
+
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class RowSpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] data = new Object[] {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigInteger("7"), new BigDecimal("8.88"), "value", 
+            new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L)};
+        try (RowSpillFile rowSpillFile = new RowSpillFile(data.length)) {
+            rowSpillFile.write(new MemoryQueryResultRow(data));
+            rowSpillFile.write(new MemoryQueryResultRow(new Object[data.length]));
+            rowSpillFile.finishWrite();
+            MemoryQueryResultRow actual = rowSpillFile.read();
+            for (int i = 0; i < data.length; i++) {
+                assertThat(actual.getCell(i + 1), is(data[i]));
+            }
+            assertNull(rowSpillFile.read().getCell(1));
+            assertNull(rowSpillFile.read());
+        }
+    }
+    
+    @Test
+    public void assertWriteAndReadBytes() throws IOException {
+        try (RowSpillFile rowSpillFile = new RowSpillFile(1)) {
+            rowSpillFile.write(new MemoryQueryResultRow(new Object[] {new byte[] {1, 2}}));
+            rowSpillFile.finishWrite();
+            assertThat((byte[]) rowSpillFile.read().getCell(1), is(new byte[] {1, 2}));
+        }
+    }
+}
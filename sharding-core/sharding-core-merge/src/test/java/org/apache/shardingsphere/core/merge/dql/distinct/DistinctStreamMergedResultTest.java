@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaData;
+import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class DistinctStreamMergedResultTest {
+    
+    private final QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+    
+    @Test
+    public void assertNext() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(
+                createQueryResult(Arrays.<Object>asList(1, "a"), Arrays.<Object>asList(2, "b")), 
+                createQueryResult(Arrays.<Object>asList(1, "a"), Arrays.<Object>asList(3, "c")), 
+                createQueryResult(Arrays.<Object>asList(2, "b"), Arrays.<Object>asList(3, "c"), Arrays.<Object>asList(4, "d")));
+        MergedResult actual = new DistinctStreamMergedResult(queryResults, createOrderByItems(2), 2);
+        assertRow(actual, 1, "a");
+        assertRow(actual, 2, "b");
+        assertRow(actual, 3, "c");
+        assertRow(actual, 4, "d");
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithCaseInsensitiveValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(
+                createQueryResult(Arrays.<Object>asList(1, "a")), 
+                createQueryResult(Arrays.<Object>asList(1, "A"), Arrays.<Object>asList(1, "a"), Arrays.<Object>asList(2, "b")));
+        MergedResult actual = new DistinctStreamMergedResult(queryResults, createOrderByItems(2), 2);
+        assertTrue(actual.next());
+        String first = (String) actual.getValue(2, Object.class);
+        assertTrue(actual.next());
+        String second = (String) actual.getValue(2, Object.class);
+        assertTrue(first.equalsIgnoreCase(second));
+        assertFalse(first.equals(second));
+        assertRow(actual, 2, "b");
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutRows() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(), createQueryResult());
+        assertFalse(new DistinctStreamMergedResult(queryResults, createOrderByItems(2), 2).next());
+    }
+    
+    private QueryResult createQueryResult(final List<?>... rows) {
+        List<QueryRow> result = new ArrayList<>(rows.length);
+        for (List<?> each : rows) {
+            result.add(new QueryRow(new ArrayList<Object>(each)));
+        }
+        return new DistinctQueryResult(queryResultMetaData, result.iterator());
+    }
+    
+    private Collection<OrderByItem> createOrderByItems(final int columnCount) {
+        Collection<OrderByItem> result = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(-1, -1, i, OrderDirection.ASC, OrderDirection.ASC));
+            orderByItem.setIndex(i);
+            result.add(orderByItem);
+        }
+        return result;
+    }
+    
+    private void assertRow(final MergedResult actual, final int expectedId, final String expectedName) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) expectedId));
+        assertThat(actual.getValue(2, Object.class), is((Object) expectedName));
+    }
+}
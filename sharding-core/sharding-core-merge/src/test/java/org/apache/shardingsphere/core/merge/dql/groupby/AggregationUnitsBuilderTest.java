@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaData;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AccumulationAggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AverageAggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.ComparableAggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.HyperLogLogAggregationUnit;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class AggregationUnitsBuilderTest {
+    
+    @Test
+    public void assertBuild() throws SQLException {
+        AggregationUnitsBuilder builder = new AggregationUnitsBuilder(getAggregationSelectItems(), Collections.singletonList(mockQueryResult()));
+        AggregationUnit[] actual = builder.build();
+        assertThat(actual.length, is(3));
+        assertThat(actual[0], instanceOf(ComparableAggregationUnit.class));
+        assertThat(actual[1], instanceOf(AccumulationAggregationUnit.class));
+        assertThat(actual[2], instanceOf(AverageAggregationUnit.class));
+        assertThat(builder.build()[1], not(sameInstance(actual[1])));
+    }
+    
+    @Test
+    public void assertBuildWithIntegralColumnType() throws SQLException {
+        AggregationUnit[] actual = new AggregationUnitsBuilder(getAggregationSelectItems(), Collections.singletonList(mockQueryResult())).build();
+        actual[1].merge(Collections.<Comparable<?>>singletonList(Long.MAX_VALUE));
+        actual[1].merge(Collections.<Comparable<?>>singletonList(1L));
+        assertThat((BigDecimal) actual[1].getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+    
+    @Test
+    public void assertBuildWithoutQueryResults() throws SQLException {
+        AggregationUnit[] actual = new AggregationUnitsBuilder(getAggregationSelectItems(), Collections.<QueryResult>emptyList()).build();
+        assertThat(actual.length, is(3));
+        actual[2].merge(Arrays.<Comparable<?>>asList(2, 3));
+        assertThat((BigDecimal) actual[2].getResult(), is(new BigDecimal("1.5000")));
+    }
+    
+    @Test
+    public void assertBuildWithApproximateCountDistinct() throws SQLException {
+        AggregationSelectItem countDistinctItem = new AggregationDistinctSelectItem(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", "c", "order_id");
+        countDistinctItem.setIndex(2);
+        List<AggregationSelectItem> aggregationSelectItems = Collections.singletonList(countDistinctItem);
+        assertThat(new AggregationUnitsBuilder(aggregationSelectItems, Collections.singletonList(mockQueryResult())).build()[0], instanceOf(AccumulationAggregationUnit.class));
+        AggregationUnit[] actual = new AggregationUnitsBuilder(aggregationSelectItems, Collections.singletonList(mockQueryResult()), 14).build();
+        assertThat(actual[0], instanceOf(HyperLogLogAggregationUnit.class));
+        actual[0].merge(Collections.<Comparable<?>>singletonList(1L));
+        actual[0].merge(Collections.<Comparable<?>>singletonList(1L));
+        actual[0].merge(Collections.<Comparable<?>>singletonList(2L));
+        assertThat((BigDecimal) actual[0].getResult(), is(new BigDecimal("2")));
+    }
+    
+    private List<AggregationSelectItem> getAggregationSelectItems() {
+        AggregationSelectItem maxItem = new AggregationSelectItem(AggregationType.MAX, "(price)", null);
+        maxItem.setIndex(1);
+        AggregationSelectItem countItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", null);
+        countItem.setIndex(2);
+        AggregationSelectItem avgItem = new AggregationSelectItem(AggregationType.AVG, "(price)", null);
+        avgItem.setIndex(3);
+        AggregationSelectItem derivedCountItem = new AggregationSelectItem(AggregationType.COUNT, "(price)", "AVG_DERIVED_COUNT_0");
+        derivedCountItem.setIndex(4);
+        AggregationSelectItem derivedSumItem = new AggregationSelectItem(AggregationType.SUM, "(price)", "AVG_DERIVED_SUM_0");
+        derivedSumItem.setIndex(5);
+        avgItem.getDerivedAggregationItems().add(derivedCountItem);
+        avgItem.getDerivedAggregationItems().add(derivedSumItem);
+        return Arrays.asList(maxItem, countItem, avgItem);
+    }
+    
+    private QueryResult mockQueryResult() throws SQLException {
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.DECIMAL);
+        when(queryResultMetaData.getColumnType(2)).thenReturn(Types.BIGINT);
+        when(queryResultMetaData.getColumnType(4)).thenReturn(Types.BIGINT);
+        when(queryResultMetaData.getColumnType(5)).thenReturn(Types.DECIMAL);
+        QueryResult result = mock(QueryResult.class);
+        when(result.getQueryResultMetaData()).thenReturn(queryResultMetaData);
+        return result;
+    }
+}
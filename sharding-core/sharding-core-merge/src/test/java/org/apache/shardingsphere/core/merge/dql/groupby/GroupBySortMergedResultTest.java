@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.optimize.encrypt.statement.EncryptTransparentOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.segment.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItems;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.pagination.Pagination;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySortMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        List<QueryResult> queryResults = Arrays.<QueryResult>asList(new TestQueryResult(mockResultSet()), new TestQueryResult(mockResultSet()));
+        MergedResult actual = new GroupBySortMergedResult(Collections.<String, Integer>emptyMap(), queryResults, createSelectStatement(new Pagination(null, null, Collections.emptyList())));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutPagination() throws SQLException {
+        List<QueryResult> queryResults = Arrays.<QueryResult>asList(new TestQueryResult(mockResultSet(new Object[] {10, 1}, new Object[] {5, 2})), 
+                new TestQueryResult(mockResultSet(new Object[] {20, 1}, new Object[] {1, 3})), new TestQueryResult(mockResultSet(new Object[] {3, 3})));
+        MergedResult actual = createMergedResult(queryResults, new Pagination(null, null, Collections.emptyList()));
+        assertThat(actual, instanceOf(GroupBySortMergedResult.class));
+        assertRow(actual, 30, 1);
+        assertRow(actual, 5, 2);
+        assertRow(actual, 4, 3);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithPagination() throws SQLException {
+        List<QueryResult> queryResults = Arrays.<QueryResult>asList(new TestQueryResult(mockResultSet(new Object[] {10, 1}, new Object[] {5, 2})),
+                new TestQueryResult(mockResultSet(new Object[] {20, 1}, new Object[] {1, 3})), new TestQueryResult(mockResultSet(new Object[] {3, 3}, new Object[] {1, 4})));
+        MergedResult actual = createMergedResult(queryResults, new Pagination(new NumberLiteralLimitValueSegment(0, 0, 1), new NumberLiteralLimitValueSegment(0, 0, 2), Collections.emptyList()));
+        assertRow(actual, 5, 2);
+        assertRow(actual, 4, 3);
+        assertFalse(actual.next());
+    }
+    
+    private MergedResult createMergedResult(final List<QueryResult> queryResults, final Pagination pagination) throws SQLException {
+        ShardingSelectOptimizedStatement shardingStatement = createSelectStatement(pagination);
+        SQLRouteResult routeResult = new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(new SelectStatement()), new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        return new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults).merge();
+    }
+    
+    private ShardingSelectOptimizedStatement createSelectStatement(final Pagination pagination) {
+        AggregationSelectItem aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", null);
+        aggregationSelectItem.setIndex(1);
+        SelectItems selectItems = new SelectItems(0, 0, false, Collections.<SelectItem>singletonList(aggregationSelectItem), Collections.<TableSegment>emptyList(), null);
+        ShardingSelectOptimizedStatement result = new ShardingSelectOptimizedStatement(new SelectStatement(),
+                new GroupBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC))), false),
+                selectItems, pagination);
+        result.setGroupByStreamMergeEnabled(true);
+        return result;
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("id");
+        final int[] cursor = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < rows.length;
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[cursor[0]][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+        return result;
+    }
+    
+    private void assertRow(final MergedResult actual, final int count, final int id) throws SQLException {
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat((Integer) actual.getValue(2, Object.class), is(id));
+    }
+}
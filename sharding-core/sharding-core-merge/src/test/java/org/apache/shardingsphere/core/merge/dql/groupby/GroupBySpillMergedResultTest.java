@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.optimize.encrypt.statement.EncryptTransparentOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.segment.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItems;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.pagination.Pagination;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        List<QueryResult> queryResults = Arrays.<QueryResult>asList(new TestQueryResult(mockResultSet()), new TestQueryResult(mockResultSet()));
+        MergedResult actual = new GroupBySpillMergedResult(Collections.<String, Integer>emptyMap(), queryResults, createSelectStatement(), 2);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        List<QueryResult> queryResults = Arrays.<QueryResult>asList(new TestQueryResult(mockResultSet(new Object[] {10, 1}, new Object[] {5, 2})),
+                new TestQueryResult(mockResultSet(new Object[] {20, 1}, new Object[] {1, 3})));
+        MergedResult actual = createMergedResult(queryResults, 10);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertRow(actual, 30, 1);
+        assertRow(actual, 5, 2);
+        assertRow(actual, 1, 3);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        List<QueryResult> queryResults = Arrays.<QueryResult>asList(new TestQueryResult(mockResultSet(new Object[] {10, 1}, new Object[] {5, 2}, new Object[] {2, 5})),
+                new TestQueryResult(mockResultSet(new Object[] {20, 1}, new Object[] {1, 3}, new Object[] {6, 4})), new TestQueryResult(mockResultSet(new Object[] {3, 3}, new Object[] {1, 5})));
+        MergedResult actual = createMergedResult(queryResults, 2);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertRow(actual, 30, 1);
+        assertRow(actual, 6, 4);
+        assertRow(actual, 5, 2);
+        assertRow(actual, 4, 3);
+        assertRow(actual, 3, 5);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException, IOException {
+        int originalSpillFileCount = countSpillFiles();
+        List<QueryResult> queryResults = Arrays.<QueryResult>asList(new TestQueryResult(mockResultSet(new Object[] {10, 1}, new Object[] {5, 2}, new Object[] {2, 5})),
+                new TestQueryResult(mockResultSet(new Object[] {20, 1}, new Object[] {1, 3}, new Object[] {6, 4})), new TestQueryResult(mockResultSet(new Object[] {3, 3}, new Object[] {1, 5})));
+        MergedResult actual = createMergedResult(queryResults, 2);
+        assertRow(actual, 30, 1);
+        assertTrue(countSpillFiles() > originalSpillFileCount);
+        ((Closeable) actual).close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    private int countSpillFiles() {
+        String[] actual = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-merge-") && name.endsWith(".spill");
+            }
+        });
+        return null == actual ? 0 : actual.length;
+    }
+    
+    private MergedResult createMergedResult(final List<QueryResult> queryResults, final int spillThreshold) throws SQLException {
+        SQLRouteResult routeResult = new SQLRouteResult(createSelectStatement(), new EncryptTransparentOptimizedStatement(new SelectStatement()), new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), String.valueOf(spillThreshold));
+        return new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults, new ShardingProperties(props)).merge();
+    }
+    
+    private ShardingSelectOptimizedStatement createSelectStatement() {
+        AggregationSelectItem aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", null);
+        aggregationSelectItem.setIndex(1);
+        SelectItems selectItems = new SelectItems(0, 0, false, Collections.<SelectItem>singletonList(aggregationSelectItem), Collections.<TableSegment>emptyList(), null);
+        return new ShardingSelectOptimizedStatement(new SelectStatement(),
+                new GroupBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC))), false),
+                selectItems, new Pagination(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("id");
+        final int[] cursor = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < rows.length;
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[cursor[0]][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+        return result;
+    }
+    
+    private void assertRow(final MergedResult actual, final int count, final int id) throws SQLException {
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat((Integer) actual.getValue(2, Object.class), is(id));
+    }
+}
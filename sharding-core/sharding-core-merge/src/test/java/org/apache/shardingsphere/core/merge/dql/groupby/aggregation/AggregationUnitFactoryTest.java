@@ -20,7 +20,13 @@ package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
 public final class AggregationUnitFactoryTest {
@@ -41,4 +47,28 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG), instanceOf(AverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateAccumulationAggregationUnitWithIntegralColumnType() {
+        AggregationUnit actual = AggregationUnitFactory.create(AggregationType.SUM, Types.BIGINT);
+        actual.merge(Collections.<Comparable<?>>singletonList(Long.MAX_VALUE));
+        actual.merge(Collections.<Comparable<?>>singletonList(1L));
+        assertThat((BigDecimal) actual.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+    
+    @Test
+    public void assertCreateAccumulationAggregationUnitWithFloatingPointColumnType() {
+        AggregationUnit actual = AggregationUnitFactory.create(AggregationType.SUM, Types.DOUBLE);
+        actual.merge(Collections.<Comparable<?>>singletonList(1.5D));
+        actual.merge(Collections.<Comparable<?>>singletonList(2.5D));
+        assertThat((BigDecimal) actual.getResult(), is(new BigDecimal("4.0")));
+    }
+    
+    @Test
+    public void assertCreateAverageAggregationUnitWithColumnTypes() {
+        AggregationUnit actual = AggregationUnitFactory.create(AggregationType.AVG, Types.BIGINT, Types.DECIMAL);
+        actual.merge(Arrays.<Comparable<?>>asList(2L, new BigDecimal("3")));
+        actual.merge(Arrays.<Comparable<?>>asList(1L, new BigDecimal("1.5")));
+        assertThat((BigDecimal) actual.getResult(), is(new BigDecimal("1.5000")));
+    }
 }
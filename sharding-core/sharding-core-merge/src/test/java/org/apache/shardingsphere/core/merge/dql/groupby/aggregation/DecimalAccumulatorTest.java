@@ -15,27 +15,32 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.shardingjdbc.jdbc.adapter.invocation;
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 
 import org.junit.Test;
 
-import java.sql.PreparedStatement;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
-public final class SetParameterMethodInvocationTest {
+public final class DecimalAccumulatorTest {
     
     @Test
-    public void assertGetValue() throws NoSuchMethodException {
-        SetParameterMethodInvocation actual = new SetParameterMethodInvocation(PreparedStatement.class.getMethod("setInt", int.class, int.class), new Object[] {1, 100}, 100);
-        assertThat(actual.getValue(), is((Object) 100));
+    public void assertGetResultWithoutValue() {
+        assertNull(new DecimalAccumulator().getResult());
     }
     
     @Test
-    public void assertChangeValueArgument() throws NoSuchMethodException {
-        SetParameterMethodInvocation actual = new SetParameterMethodInvocation(PreparedStatement.class.getMethod("setInt", int.class, int.class), new Object[] {1, 100}, 100);
-        actual.changeValueArgument(200);
-        assertThat(actual.getArguments()[1], is((Object) 200));
+    public void assertAddValues() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(new BigDecimal("1.25"));
+        accumulator.add(1);
+        accumulator.add(BigInteger.TEN);
+        accumulator.add(0.5D);
+        accumulator.add("2");
+        assertThat(accumulator.getResult(), is(new BigDecimal("14.75")));
     }
 }
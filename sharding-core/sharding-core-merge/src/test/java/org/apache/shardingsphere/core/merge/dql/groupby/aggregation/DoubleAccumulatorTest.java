@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class DoubleAccumulatorTest {
+    
+    @Test
+    public void assertGetResultWithoutValue() {
+        assertNull(new DoubleAccumulator().getResult());
+    }
+    
+    @Test
+    public void assertAddDoubleValues() {
+        DoubleAccumulator accumulator = new DoubleAccumulator();
+        accumulator.add(1.5D);
+        accumulator.add(2.5D);
+        accumulator.add(1);
+        assertThat(accumulator.getResult(), is(new BigDecimal("5.0")));
+    }
+    
+    @Test
+    public void assertAddDecimalValue() {
+        DoubleAccumulator accumulator = new DoubleAccumulator();
+        accumulator.add(1.5D);
+        accumulator.add(new BigDecimal("1.25"));
+        accumulator.add(1.5D);
+        assertThat(accumulator.getResult(), is(new BigDecimal("4.25")));
+    }
+    
+    @Test
+    public void assertAddDecimalValueFirst() {
+        DoubleAccumulator accumulator = new DoubleAccumulator();
+        accumulator.add(new BigDecimal("1.25"));
+        assertThat(accumulator.getResult(), is(new BigDecimal("1.25")));
+    }
+}
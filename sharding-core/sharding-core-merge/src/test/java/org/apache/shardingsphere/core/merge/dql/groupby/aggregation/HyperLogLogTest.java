@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithTooSmallPrecision() {
+        new HyperLogLog(HyperLogLog.MIN_PRECISION - 1);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithTooLargePrecision() {
+        new HyperLogLog(HyperLogLog.MAX_PRECISION + 1);
+    }
+    
+    @Test
+    public void assertCardinalityWithoutValue() {
+        assertThat(new HyperLogLog(14).cardinality(), is(0L));
+    }
+    
+    @Test
+    public void assertCardinalityWithFewValues() {
+        HyperLogLog hyperLogLog = new HyperLogLog(14);
+        for (int i = 0; i < 200; i++) {
+            hyperLogLog.add(i);
+            hyperLogLog.add((long) i);
+            hyperLogLog.add("value_" + i);
+        }
+        hyperLogLog.add(new byte[] {1, 2});
+        hyperLogLog.add(new byte[] {1, 2});
+        hyperLogLog.add(new BigDecimal("1.5"));
+        assertThat(hyperLogLog.cardinality(), is(402L));
+    }
+    
+    @Test
+    public void assertCardinalityWithManyValues() {
+        HyperLogLog hyperLogLog = new HyperLogLog(14);
+        for (int i = 0; i < 100000; i++) {
+            hyperLogLog.add(i);
+            hyperLogLog.add(i);
+        }
+        assertTrue(Math.abs(hyperLogLog.cardinality() - 100000L) < 3000L);
+    }
+    
+    @Test
+    public void assertCardinalityWithLowPrecision() {
+        HyperLogLog hyperLogLog = new HyperLogLog(HyperLogLog.MIN_PRECISION);
+        for (int i = 0; i < 10000; i++) {
+            hyperLogLog.add("value_" + i);
+        }
+        assertTrue(Math.abs(hyperLogLog.cardinality() - 10000L) < 10000L);
+    }
+}
@@ -171,10 +171,11 @@ public final class OrderByStreamMergedResultTest {
         assertThat(actual.getValue(1, Object.class).toString(), is("a"));
         assertTrue(actual.next());
         assertThat(actual.getValue(1, Object.class).toString(), is("A"));
-        assertTrue(actual.next());
-        assertThat(actual.getValue(1, Object.class).toString(), is("B"));
+        // "b" and "B" are equal ignoring case, ties are merged in shard order so shard 0 comes first
         assertTrue(actual.next());
         assertThat(actual.getValue(1, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("B"));
         assertFalse(actual.next());
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByTopNUtilTest {
+    
+    private ShardingSelectOptimizedStatement shardingStatement;
+    
+    private ShardingProperties shardingProperties;
+    
+    @Before
+    public void setUp() {
+        shardingStatement = mock(ShardingSelectOptimizedStatement.class, RETURNS_DEEP_STUBS);
+        when(shardingStatement.getGroupBy().getItems()).thenReturn(Collections.<OrderByItem>emptyList());
+        when(shardingStatement.getSelectItems().getAggregationSelectItems()).thenReturn(Collections.<AggregationSelectItem>emptyList());
+        when(shardingStatement.getOrderBy().getItems()).thenReturn(Collections.singletonList(mock(OrderByItem.class)));
+        when(shardingStatement.getPagination().isHasPagination()).thenReturn(true);
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.ORDER_BY_TOP_N_MERGE_ENABLED.getKey(), Boolean.TRUE.toString());
+        shardingProperties = new ShardingProperties(props);
+    }
+    
+    @Test
+    public void assertIsTopNOrderBy() {
+        assertTrue(OrderByTopNUtil.isTopNOrderBy(DatabaseTypes.getActualDatabaseType("MySQL"), shardingStatement, shardingProperties));
+        assertTrue(OrderByTopNUtil.isTopNOrderBy(DatabaseTypes.getActualDatabaseType("PostgreSQL"), shardingStatement, shardingProperties));
+    }
+    
+    @Test
+    public void assertIsNotTopNOrderByWhenDisabled() {
+        assertFalse(OrderByTopNUtil.isTopNOrderBy(DatabaseTypes.getActualDatabaseType("MySQL"), shardingStatement, new ShardingProperties(new Properties())));
+    }
+    
+    @Test
+    public void assertIsNotTopNOrderByForOracle() {
+        assertFalse(OrderByTopNUtil.isTopNOrderBy(DatabaseTypes.getActualDatabaseType("Oracle"), shardingStatement, shardingProperties));
+    }
+    
+    @Test
+    public void assertIsNotTopNOrderByWithAggregation() {
+        when(shardingStatement.getSelectItems().getAggregationSelectItems()).thenReturn(Collections.singletonList(mock(AggregationSelectItem.class)));
+        assertFalse(OrderByTopNUtil.isTopNOrderBy(DatabaseTypes.getActualDatabaseType("MySQL"), shardingStatement, shardingProperties));
+    }
+    
+    @Test
+    public void assertIsNotTopNOrderByWithoutPagination() {
+        when(shardingStatement.getPagination().isHasPagination()).thenReturn(false);
+        assertFalse(OrderByTopNUtil.isTopNOrderBy(DatabaseTypes.getActualDatabaseType("MySQL"), shardingStatement, shardingProperties));
+    }
+}
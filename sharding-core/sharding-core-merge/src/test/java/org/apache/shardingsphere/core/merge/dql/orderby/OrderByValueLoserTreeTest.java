@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertEmpty() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.<OrderByValue>emptyList());
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(Collections.singletonList(new int[] {1, 2})));
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is((Object) 1));
+        assertTrue(actual.next());
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is((Object) 2));
+        assertFalse(actual.next());
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithManyOrderByValues() throws SQLException {
+        Random random = new Random(0L);
+        for (int shardCount : new int[] {2, 3, 7, 64}) {
+            List<int[]> rows = new ArrayList<>(shardCount);
+            int total = 0;
+            for (int i = 0; i < shardCount; i++) {
+                int[] each = new int[random.nextInt(5)];
+                for (int j = 0; j < each.length; j++) {
+                    each[j] = (j > 0 ? each[j - 1] : 0) + random.nextInt(10);
+                }
+                rows.add(each);
+                total += each.length;
+            }
+            assertMerged(new OrderByValueLoserTree(createOrderByValues(rows)), total);
+        }
+    }
+    
+    private void assertMerged(final OrderByValueLoserTree actual, final int total) throws SQLException {
+        int count = 0;
+        int previous = Integer.MIN_VALUE;
+        while (!actual.isEmpty()) {
+            int current = (Integer) actual.peek().getQueryResult().getValue(1, Object.class);
+            assertTrue(current >= previous);
+            previous = current;
+            count++;
+            actual.next();
+        }
+        assertThat(count, is(total));
+    }
+    
+    private List<OrderByValue> createOrderByValues(final List<int[]> rows) throws SQLException {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        Collection<OrderByItem> orderByItems = Collections.singletonList(orderByItem);
+        List<OrderByValue> result = new ArrayList<>(rows.size());
+        for (int[] each : rows) {
+            OrderByValue orderByValue = new OrderByValue(mockQueryResult(each), orderByItems);
+            if (orderByValue.next()) {
+                result.add(orderByValue);
+            }
+        }
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final int[] values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        final int[] cursor = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < values.length;
+            }
+        });
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return values[cursor[0]];
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SortKeysTest {
+    
+    @Test
+    public void assertCompareToForLong() throws SQLException {
+        assertTrue(compare(Types.BIGINT, OrderDirection.ASC, true, 1L, 2) < 0);
+        assertTrue(compare(Types.BIGINT, OrderDirection.DESC, true, 1L, 2) > 0);
+        assertThat(compare(Types.INTEGER, OrderDirection.ASC, true, 2, 2L), is(0));
+    }
+    
+    @Test
+    public void assertCompareToForDouble() throws SQLException {
+        assertTrue(compare(Types.DOUBLE, OrderDirection.ASC, true, 1.5D, 2.5F) < 0);
+    }
+    
+    @Test
+    public void assertCompareToForDecimal() throws SQLException {
+        assertThat(compare(Types.DECIMAL, OrderDirection.ASC, true, new BigDecimal("1.0"), new BigDecimal("1.00")), is(0));
+        assertTrue(compare(Types.DECIMAL, OrderDirection.DESC, true, new BigDecimal("1"), new BigDecimal("2")) > 0);
+    }
+    
+    @Test
+    public void assertCompareToForString() throws SQLException {
+        assertTrue(compare(Types.VARCHAR, OrderDirection.ASC, true, "A", "a") < 0);
+        assertThat(compare(Types.VARCHAR, OrderDirection.ASC, false, "A", "a"), is(0));
+    }
+    
+    @Test
+    public void assertCompareToForTimestamp() throws SQLException {
+        Timestamp timestamp1 = new Timestamp(1000L);
+        timestamp1.setNanos(1);
+        Timestamp timestamp2 = new Timestamp(1000L);
+        timestamp2.setNanos(2);
+        assertTrue(compare(Types.TIMESTAMP, OrderDirection.ASC, true, timestamp1, timestamp2) < 0);
+    }
+    
+    @Test
+    public void assertCompareToForNull() throws SQLException {
+        assertTrue(compare(Types.BIGINT, OrderDirection.ASC, true, null, 1L) < 0);
+        assertTrue(compare(Types.BIGINT, OrderDirection.ASC, true, 1L, null) > 0);
+    }
+    
+    @Test
+    public void assertCompareToForMismatchedType() throws SQLException {
+        assertTrue(compare(Types.BIGINT, OrderDirection.ASC, true, "1", "2") < 0);
+    }
+    
+    private int compare(final int columnType, final OrderDirection orderDirection, final boolean caseSensitive, final Object value1, final Object value2) throws SQLException {
+        return createSortKeys(columnType, orderDirection, caseSensitive, value1).compareTo(createSortKeys(columnType, orderDirection, caseSensitive, value2));
+    }
+    
+    private SortKeys createSortKeys(final int columnType, final OrderDirection orderDirection, final boolean caseSensitive, final Object value) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(columnType);
+        when(resultSetMetaData.isCaseSensitive(1)).thenReturn(caseSensitive);
+        when(resultSet.getObject(1)).thenReturn(value);
+        TestQueryResult queryResult = new TestQueryResult(resultSet);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        SortKeys result = new SortKeys(queryResult, Collections.singletonList(orderByItem));
+        result.load(queryResult);
+        return result;
+    }
+}
@@ -41,6 +41,8 @@ import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -51,7 +53,10 @@ import java.util.List;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public final class LimitDecoratorMergedResultTest {
     
@@ -117,4 +122,16 @@ public final class LimitDecoratorMergedResultTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithRowCountClosesMergedResult() throws SQLException, IOException {
+        MergedResult mergedResult = mock(MergedResult.class, withSettings().extraInterfaces(Closeable.class));
+        when(mergedResult.next()).thenReturn(true);
+        MergedResult actual = new LimitDecoratorMergedResult(mergedResult, 
+                new Pagination(new NumberLiteralLimitValueSegment(0, 0, 0), new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList()));
+        assertTrue(actual.next());
+        verify((Closeable) mergedResult, never()).close();
+        assertFalse(actual.next());
+        verify((Closeable) mergedResult).close();
+    }
 }
@@ -24,6 +24,7 @@ import lombok.Setter;
 import lombok.ToString;
 import org.apache.shardingsphere.core.optimize.api.segment.Tables;
 import org.apache.shardingsphere.core.optimize.sharding.segment.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationDistinctSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItems;
@@ -31,11 +32,13 @@ import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderBy;
 import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.sharding.statement.ShardingOptimizedStatement;
+import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ExpressionOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.TextOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 
 import java.util.Collection;
@@ -65,6 +68,12 @@ public final class ShardingSelectOptimizedStatement implements ShardingOptimized
     
     private boolean containsSubquery;
     
+    private boolean groupByStreamMergeEnabled;
+    
+    private boolean distinctStreamMergeEnabled;
+    
+    private int approximateCountDistinctPrecision;
+    
     public ShardingSelectOptimizedStatement(final SQLStatement sqlStatement, final GroupBy groupBy, final OrderBy orderBy, final SelectItems selectItems, final Pagination pagination) {
         this.sqlStatement = sqlStatement;
         this.tables = new Tables(sqlStatement);
@@ -147,4 +156,48 @@ public final class ShardingSelectOptimizedStatement implements ShardingOptimized
     public boolean isSameGroupByAndOrderByItems() {
         return !groupBy.getItems().isEmpty() && groupBy.getItems().equals(orderBy.getItems());
     }
+    
+    /**
+     * Judge order by items of actual SQL should be replaced with group by items or not.
+     *
+     * @return order by items of actual SQL should be replaced with group by items or not
+     */
+    public boolean isOrderByGroupByItemsForShards() {
+        return groupByStreamMergeEnabled && !groupBy.getItems().isEmpty() && !isSameGroupByAndOrderByItems();
+    }
+    
+    /**
+     * Judge distinct select items should be appended to order by items of actual SQL or not.
+     * 
+     * <p>
+     * Order by items are appended to original order by items, or inserted after where if no order by.
+     * </p>
+     *
+     * @return distinct select items should be appended to order by items of actual SQL or not
+     */
+    public boolean isOrderByDistinctItemsForShards() {
+        if (!distinctStreamMergeEnabled || !selectItems.isDistinctRow() || !groupBy.getItems().isEmpty() || containsSubquery
+                || !selectItems.getAggregationSelectItems().isEmpty() || selectItems.isUnqualifiedShorthandItem()) {
+            return false;
+        }
+        SelectStatement selectStatement = (SelectStatement) sqlStatement;
+        return selectStatement.getOrderBy().isPresent() ? !orderBy.getItems().isEmpty() : selectStatement.getWhere().isPresent();
+    }
+    
+    /**
+     * Judge count distinct should be merged approximately or not.
+     *
+     * @return count distinct should be merged approximately or not
+     */
+    public boolean isApproximateCountDistinct() {
+        if (0 == approximateCountDistinctPrecision || selectItems.getAggregationDistinctSelectItems().isEmpty()) {
+            return false;
+        }
+        for (AggregationSelectItem each : selectItems.getAggregationSelectItems()) {
+            if (!(each instanceof AggregationDistinctSelectItem) || AggregationType.COUNT != each.getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
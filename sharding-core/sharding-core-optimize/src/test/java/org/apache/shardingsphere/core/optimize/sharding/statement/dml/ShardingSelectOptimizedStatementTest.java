@@ -22,11 +22,13 @@ import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.optimize.sharding.segment.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationDistinctSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.ColumnSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItems;
 import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderBy;
 import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
@@ -45,6 +47,7 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingSelectOptimizedStatementTest {
     
@@ -99,6 +102,27 @@ public final class ShardingSelectOptimizedStatementTest {
         assertFalse(shardingSelectOptimizedStatement.isSameGroupByAndOrderByItems());
     }
     
+    @Test
+    public void assertIsApproximateCountDistinct() {
+        ShardingSelectOptimizedStatement shardingSelectOptimizedStatement = createAggregationDistinctOptimizedStatement(AggregationType.COUNT);
+        assertFalse(shardingSelectOptimizedStatement.isApproximateCountDistinct());
+        shardingSelectOptimizedStatement.setApproximateCountDistinctPrecision(14);
+        assertTrue(shardingSelectOptimizedStatement.isApproximateCountDistinct());
+    }
+    
+    @Test
+    public void assertIsNotApproximateCountDistinctWithSumDistinct() {
+        ShardingSelectOptimizedStatement shardingSelectOptimizedStatement = createAggregationDistinctOptimizedStatement(AggregationType.SUM);
+        shardingSelectOptimizedStatement.setApproximateCountDistinctPrecision(14);
+        assertFalse(shardingSelectOptimizedStatement.isApproximateCountDistinct());
+    }
+    
+    private ShardingSelectOptimizedStatement createAggregationDistinctOptimizedStatement(final AggregationType aggregationType) {
+        SelectItem selectItem = new AggregationDistinctSelectItem(0, 0, aggregationType, "(DISTINCT order_id)", "c", "order_id");
+        return new ShardingSelectOptimizedStatement(new SelectStatement(), new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(0, 0, false, Collections.singletonList(selectItem), Collections.<TableSegment>emptyList(), null), null);
+    }
+    
     private OrderBy createOrderBy(final String type) {
         OrderByItemSegment orderByItemSegment = createOrderByItemSegment(type);
         OrderByItem orderByItem = new OrderByItem(orderByItemSegment);
@@ -18,12 +18,11 @@
 package org.apache.shardingsphere.core.parse.cache;
 
 import com.google.common.base.Optional;
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
-
 /**
  * SQL parse result cache.
  *
@@ -32,7 +31,17 @@ import java.util.Map;
  */
 public final class SQLParseResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    public static final int DEFAULT_MAXIMUM_SIZE = 65535;
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    public SQLParseResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLParseResultCache(final int maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -51,13 +60,31 @@ public final class SQLParseResultCache {
      * @return SQL statement
      */
     public Optional<SQLStatement> getSQLStatement(final String sql) {
-        return Optional.fromNullable(cache.get(sql));
+        return Optional.fromNullable(cache.getIfPresent(sql));
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Get cached SQL statements size.
+     * 
+     * @return cached SQL statements size
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get cache statistics, include hit, miss and eviction count.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.TokenStream;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.core.parse.spi.SQLParserEntry;
+
+/**
+ * Reusable SQL parser.
+ * 
+ * <p>
+ * Lexer and parser are created once and reset for each SQL, it is not thread safe and should be confined to one thread.
+ * Prediction mode and error strategy of parser are left as default, so parse trees are same as new parser instances.
+ * DFA caches are static for each generated parser class, so they are shared by all reusable SQL parsers of same database type.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ReusableSQLParser {
+    
+    private final Lexer lexer;
+    
+    private final CommonTokenStream tokenStream;
+    
+    private final Parser parser;
+    
+    @SneakyThrows
+    public ReusableSQLParser(final SQLParserEntry parserEntry) {
+        lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(""));
+        tokenStream = new CommonTokenStream(lexer);
+        parser = (Parser) parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(tokenStream);
+    }
+    
+    /**
+     * Parse SQL to AST.
+     * 
+     * @param sql SQL
+     * @return AST
+     */
+    public ParserRuleContext parse(final String sql) {
+        lexer.setInputStream(CharStreams.fromString(sql));
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+        try {
+            return ((SQLParser) parser).execute();
+        } finally {
+            release();
+        }
+    }
+    
+    private void release() {
+        lexer.setInputStream(CharStreams.fromString(""));
+        tokenStream.setTokenSource(lexer);
+    }
+}
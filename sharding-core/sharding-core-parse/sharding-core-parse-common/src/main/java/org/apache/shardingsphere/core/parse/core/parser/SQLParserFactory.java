@@ -24,6 +24,7 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.parse.api.SQLParser;
@@ -33,7 +34,9 @@ import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * SQL parser factory.
@@ -46,11 +49,25 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> PARSER_ENTRIES = new HashMap<>();
+    
+    private static final ThreadLocal<Map<DatabaseType, ReusableSQLParser>> REUSABLE_PARSERS = new ThreadLocal<Map<DatabaseType, ReusableSQLParser>>() {
+        
+        @Override
+        protected Map<DatabaseType, ReusableSQLParser> initialValue() {
+            return new HashMap<>();
+        }
+    };
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each.getDatabaseType());
             if (!(each instanceof BranchDatabaseType)) {
-                DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
+                DATABASE_TYPES.add(databaseType);
+            }
+            if (!PARSER_ENTRIES.containsKey(databaseType)) {
+                PARSER_ENTRIES.put(databaseType, each);
             }
         }
     }
@@ -72,12 +89,32 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+        return createSQLParser(sql, getParserEntry(databaseType));
+    }
+    
+    /**
+     * Parse SQL to AST with reusable SQL parser of current thread.
+     * 
+     * @param databaseType database type
+     * @param sql SQL
+     * @return AST
+     */
+    public static ParserRuleContext parse(final DatabaseType databaseType, final String sql) {
+        Map<DatabaseType, ReusableSQLParser> reusableParsers = REUSABLE_PARSERS.get();
+        ReusableSQLParser reusableParser = reusableParsers.get(databaseType);
+        if (null == reusableParser) {
+            reusableParser = new ReusableSQLParser(getParserEntry(databaseType));
+            reusableParsers.put(databaseType, reusableParser);
+        }
+        return reusableParser.parse(sql);
+    }
+    
+    private static SQLParserEntry getParserEntry(final DatabaseType databaseType) {
+        SQLParserEntry result = PARSER_ENTRIES.get(databaseType);
+        if (null == result) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        return result;
     }
     
     @SneakyThrows
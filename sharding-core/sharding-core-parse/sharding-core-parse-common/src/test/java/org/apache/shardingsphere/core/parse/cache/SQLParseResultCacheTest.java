@@ -53,4 +53,25 @@ public final class SQLParseResultCacheTest {
         actual.clear();
         assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
     }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        SQLParseResultCache actual = new SQLParseResultCache(1);
+        actual.put("SELECT 1", new SelectStatement());
+        actual.put("SELECT 2", new SelectStatement());
+        assertThat(actual.size(), is(1L));
+        assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
+        assertTrue(actual.getSQLStatement("SELECT 2").isPresent());
+        assertThat(actual.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetStats() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        actual.put("SELECT 1", new SelectStatement());
+        actual.getSQLStatement("SELECT 1");
+        actual.getSQLStatement("SELECT 2");
+        assertThat(actual.getStats().hitCount(), is(1L));
+        assertThat(actual.getStats().missCount(), is(1L));
+    }
 }
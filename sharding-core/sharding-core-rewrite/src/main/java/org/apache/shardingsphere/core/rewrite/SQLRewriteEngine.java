@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.rewrite;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.optimize.api.segment.InsertValue;
 import org.apache.shardingsphere.core.optimize.api.statement.InsertOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
@@ -32,7 +33,10 @@ import org.apache.shardingsphere.core.rewrite.statement.RewriteStatementFactory;
 import org.apache.shardingsphere.core.rewrite.token.BaseTokenGenerateEngine;
 import org.apache.shardingsphere.core.rewrite.token.EncryptTokenGenerateEngine;
 import org.apache.shardingsphere.core.rewrite.token.ShardingTokenGenerateEngine;
+import org.apache.shardingsphere.core.rewrite.token.pojo.IndexToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RemoveToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
@@ -66,6 +70,8 @@ public final class SQLRewriteEngine {
     
     private final ParameterBuilder parameterBuilder;
     
+    private final boolean parametersRewritten;
+    
     public SQLRewriteEngine(final ShardingRule shardingRule, 
                             final SQLRouteResult sqlRouteResult, final String sql, final List<Object> parameters, final boolean isSingleRoute, final boolean isQueryWithCipherColumn) {
         baseRule = shardingRule;
@@ -73,6 +79,16 @@ public final class SQLRewriteEngine {
         parameterBuilder = createParameterBuilder(parameters, sqlRouteResult);
         sqlTokens = createSQLTokens(isSingleRoute, isQueryWithCipherColumn);
         sqlBuilder = new SQLBuilder(sql, sqlTokens);
+        parametersRewritten = !parameterBuilder.getOriginalParameters().equals(parameters);
+    }
+    
+    public SQLRewriteEngine(final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, final String sql, final List<Object> parameters, final List<SQLToken> reusableSQLTokens) {
+        baseRule = shardingRule;
+        rewriteStatement = RewriteStatementFactory.newInstance(shardingRule, sqlRouteResult);
+        parameterBuilder = createParameterBuilder(parameters, sqlRouteResult);
+        sqlTokens = reusableSQLTokens;
+        sqlBuilder = new SQLBuilder(sql, sqlTokens);
+        parametersRewritten = false;
     }
     
     public SQLRewriteEngine(final EncryptRule encryptRule, final EncryptOptimizedStatement encryptStatement, final String sql, final List<Object> parameters, final boolean isQueryWithCipherColumn) {
@@ -81,6 +97,7 @@ public final class SQLRewriteEngine {
         parameterBuilder = createParameterBuilder(parameters);
         sqlTokens = createSQLTokens(false, isQueryWithCipherColumn);
         sqlBuilder = new SQLBuilder(sql, sqlTokens);
+        parametersRewritten = !parameterBuilder.getOriginalParameters().equals(parameters);
     }
     
     public SQLRewriteEngine(final MasterSlaveRule masterSlaveRule, final OptimizedStatement optimizedStatement, final String sql) {
@@ -90,6 +107,7 @@ public final class SQLRewriteEngine {
         parameterBuilder = createParameterBuilder(Collections.emptyList());
         sqlTokens = createSQLTokens(false, false);
         sqlBuilder = new SQLBuilder(sql, sqlTokens);
+        parametersRewritten = false;
     }
     
     private ParameterBuilder createParameterBuilder(final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
@@ -124,6 +142,25 @@ public final class SQLRewriteEngine {
         return result;
     }
     
+    /**
+     * Get SQL tokens which can be reused to rewrite same logic SQL with different parameters.
+     * 
+     * <p>SQL tokens are reusable only if all of them are decided by SQL structure, and parameters are not rewritten during tokens generation.</p>
+     * 
+     * @return reusable SQL tokens
+     */
+    public Optional<List<SQLToken>> getReusableSQLTokens() {
+        if (parametersRewritten || rewriteStatement.getOptimizedStatement() instanceof InsertOptimizedStatement) {
+            return Optional.absent();
+        }
+        for (SQLToken each : sqlTokens) {
+            if (!(each instanceof TableToken || each instanceof IndexToken || each instanceof RemoveToken)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(sqlTokens);
+    }
+    
     /**
      * Generate SQL.
      * 
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.core.rewrite.builder.sql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Alterable;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Substitutable;
@@ -29,18 +28,52 @@ import java.util.Map;
 
 /**
  * SQL builder.
+ * 
+ * <p>
+ * Logic SQL is split into literal segments and SQL token slots once when builder created,
+ * then each routing unit is rendered by appending the literal segments and the token literals without substring.
+ * </p>
  *
  * @author gaohongtao
  * @author zhangliang
  * @author maxiaoguang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class SQLBuilder {
     
+    private static final int ESTIMATED_TOKEN_LENGTH = 16;
+    
     private final String logicSQL;
     
-    private final List<SQLToken> sqlTokens;
+    private final SQLToken[] sqlTokens;
+    
+    private final int[] segmentStartIndexes;
+    
+    private final int[] segmentStopIndexes;
+    
+    private final int estimatedSQLLength;
+    
+    public SQLBuilder(final String logicSQL, final List<SQLToken> sqlTokens) {
+        this.logicSQL = logicSQL;
+        this.sqlTokens = sqlTokens.toArray(new SQLToken[sqlTokens.size()]);
+        segmentStartIndexes = new int[this.sqlTokens.length + 1];
+        segmentStopIndexes = new int[this.sqlTokens.length + 1];
+        estimatedSQLLength = initSegments();
+    }
+    
+    private int initSegments() {
+        int result = 0;
+        for (int i = 0; i < segmentStartIndexes.length; i++) {
+            segmentStartIndexes[i] = 0 == i ? 0 : Math.min(getStartIndex(sqlTokens[i - 1]), logicSQL.length());
+            segmentStopIndexes[i] = sqlTokens.length == i ? logicSQL.length() : sqlTokens[i].getStartIndex();
+            result += segmentStopIndexes[i] - segmentStartIndexes[i];
+        }
+        return result + sqlTokens.length * ESTIMATED_TOKEN_LENGTH;
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+    }
     
     /**
      * Convert to SQL.
@@ -59,18 +92,18 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        if (sqlTokens.isEmpty()) {
+        if (0 == sqlTokens.length) {
             return logicSQL;
         }
         return createLogicSQL(routingUnit, logicAndActualTables);
     }
     
     private String createLogicSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
-        for (SQLToken each : sqlTokens) {
-            result.append(getSQLTokenLiterals(each, routingUnit, logicAndActualTables));
-            result.append(getConjunctionLiterals(each));
+        StringBuilder result = new StringBuilder(estimatedSQLLength);
+        result.append(logicSQL, segmentStartIndexes[0], segmentStopIndexes[0]);
+        for (int i = 0; i < sqlTokens.length; i++) {
+            result.append(getSQLTokenLiterals(sqlTokens[i], routingUnit, logicAndActualTables));
+            result.append(logicSQL, segmentStartIndexes[i + 1], segmentStopIndexes[i + 1]);
         }
         return result.toString();
     }
@@ -78,14 +111,4 @@ public final class SQLBuilder {
     private String getSQLTokenLiterals(final SQLToken sqlToken, final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
         return sqlToken instanceof Alterable ? ((Alterable) sqlToken).toString(routingUnit, logicAndActualTables) : sqlToken.toString();
     }
-    
-    private String getConjunctionLiterals(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-    }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCo
 import org.apache.shardingsphere.core.route.router.sharding.keygen.GeneratedKey;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.strategy.encrypt.EncryptTable;
+import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptors;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
@@ -76,15 +77,22 @@ public final class InsertRewriteStatement extends RewriteStatement {
     private void encryptInsertValues(final InsertOptimizedStatement optimizedStatement, final EncryptRule encryptRule, final ShardingEncryptor shardingEncryptor,
                                      final String tableName, final String encryptLogicColumnName) {
         int columnIndex = optimizedStatement.getColumnNames().indexOf(encryptLogicColumnName);
+        Object[] originalValues = new Object[optimizedStatement.getInsertValues().size()];
+        int index = 0;
         for (InsertValue each : optimizedStatement.getInsertValues()) {
-            encryptInsertValue(encryptRule, shardingEncryptor, tableName, columnIndex, each, encryptLogicColumnName);
+            originalValues[index++] = each.getValue(columnIndex);
+        }
+        String[] encryptedValues = ShardingEncryptors.encrypt(shardingEncryptor, originalValues);
+        index = 0;
+        for (InsertValue each : optimizedStatement.getInsertValues()) {
+            encryptInsertValue(encryptRule, shardingEncryptor, tableName, columnIndex, each, encryptLogicColumnName, originalValues[index], encryptedValues[index]);
+            index++;
         }
     }
     
-    private void encryptInsertValue(final EncryptRule encryptRule, final ShardingEncryptor shardingEncryptor,
-                                    final String tableName, final int columnIndex, final InsertValue insertValue, final String encryptLogicColumnName) {
-        Object originalValue = insertValue.getValue(columnIndex);
-        insertValue.setValue(columnIndex, shardingEncryptor.encrypt(originalValue));
+    private void encryptInsertValue(final EncryptRule encryptRule, final ShardingEncryptor shardingEncryptor, final String tableName, final int columnIndex, 
+                                    final InsertValue insertValue, final String encryptLogicColumnName, final Object originalValue, final String encryptedValue) {
+        insertValue.setValue(columnIndex, encryptedValue);
         if (shardingEncryptor instanceof ShardingQueryAssistedEncryptor) {
             Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(tableName, encryptLogicColumnName);
             Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
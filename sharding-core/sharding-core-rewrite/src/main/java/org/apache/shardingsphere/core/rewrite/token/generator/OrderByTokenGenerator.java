@@ -20,14 +20,21 @@ package org.apache.shardingsphere.core.rewrite.token.generator;
 import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.optimize.sharding.segment.orderby.OrderByItem;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.parse.core.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.OrderBySegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ExpressionOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.rewrite.builder.parameter.ParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.statement.RewriteStatement;
 import org.apache.shardingsphere.core.rewrite.token.pojo.OrderByToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SubstituteOrderByToken;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.List;
+
 /**
  * Order by token generator.
  *
@@ -36,33 +43,79 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 public final class OrderByTokenGenerator implements OptionalSQLTokenGenerator<ShardingRule>, IgnoreForSingleRoute {
     
     @Override
-    public Optional<OrderByToken> generateSQLToken(
+    public Optional<? extends SQLToken> generateSQLToken(
             final RewriteStatement rewriteStatement, final ParameterBuilder parameterBuilder, final ShardingRule shardingRule, final boolean isQueryWithCipherColumn) {
         if (!(rewriteStatement.getOptimizedStatement() instanceof ShardingSelectOptimizedStatement)) {
             return Optional.absent();
         }
-        if (((ShardingSelectOptimizedStatement) rewriteStatement.getOptimizedStatement()).getOrderBy().isGenerated()) {
-            return Optional.of(createOrderByToken((ShardingSelectOptimizedStatement) rewriteStatement.getOptimizedStatement()));
+        ShardingSelectOptimizedStatement optimizedStatement = (ShardingSelectOptimizedStatement) rewriteStatement.getOptimizedStatement();
+        if (optimizedStatement.getOrderBy().isGenerated()) {
+            return Optional.of(createOrderByToken(optimizedStatement));
+        }
+        if (optimizedStatement.isOrderByGroupByItemsForShards()) {
+            return createSubstituteOrderByToken(optimizedStatement);
+        }
+        if (optimizedStatement.isOrderByDistinctItemsForShards()) {
+            return Optional.of(createDistinctOrderByToken(optimizedStatement));
         }
         return Optional.absent();
     }
     
     private OrderByToken createOrderByToken(final ShardingSelectOptimizedStatement optimizedStatement) {
         OrderByToken result = new OrderByToken(optimizedStatement.getGroupBy().getLastIndex() + 1);
-        String columnLabel;
         for (OrderByItem each : optimizedStatement.getOrderBy().getItems()) {
-            if (each.getSegment() instanceof ColumnOrderByItemSegment) {
-                ColumnOrderByItemSegment columnOrderByItemSegment = (ColumnOrderByItemSegment) each.getSegment();
-                QuoteCharacter quoteCharacter = columnOrderByItemSegment.getColumn().getQuoteCharacter();
-                columnLabel = quoteCharacter.getStartDelimiter() + columnOrderByItemSegment.getText() + quoteCharacter.getEndDelimiter();
-            } else if (each.getSegment() instanceof ExpressionOrderByItemSegment) {
-                columnLabel = ((ExpressionOrderByItemSegment) each.getSegment()).getText();
-            } else {
-                columnLabel = String.valueOf(each.getIndex());
-            }
-            result.getColumnLabels().add(columnLabel);
+            result.getColumnLabels().add(getColumnLabel(each));
             result.getOrderDirections().add(each.getSegment().getOrderDirection());
         }
         return result;
     }
+    
+    private Optional<SubstituteOrderByToken> createSubstituteOrderByToken(final ShardingSelectOptimizedStatement optimizedStatement) {
+        Optional<OrderBySegment> orderBySegment = ((SelectStatement) optimizedStatement.getSqlStatement()).getOrderBy();
+        if (!orderBySegment.isPresent()) {
+            return Optional.absent();
+        }
+        SubstituteOrderByToken result = new SubstituteOrderByToken(orderBySegment.get().getStartIndex(), orderBySegment.get().getStopIndex());
+        for (OrderByItem each : optimizedStatement.getGroupBy().getItems()) {
+            result.getColumnLabels().add(getColumnLabel(each));
+            result.getOrderDirections().add(each.getSegment().getOrderDirection());
+        }
+        return Optional.of(result);
+    }
+    
+    private SQLToken createDistinctOrderByToken(final ShardingSelectOptimizedStatement optimizedStatement) {
+        SelectStatement selectStatement = (SelectStatement) optimizedStatement.getSqlStatement();
+        if (selectStatement.getOrderBy().isPresent()) {
+            SubstituteOrderByToken result = new SubstituteOrderByToken(selectStatement.getOrderBy().get().getStartIndex(), selectStatement.getOrderBy().get().getStopIndex());
+            fillDistinctOrderByItems(optimizedStatement, result.getColumnLabels(), result.getOrderDirections());
+            return result;
+        }
+        OrderByToken result = new OrderByToken(selectStatement.getWhere().get().getStopIndex() + 1);
+        fillDistinctOrderByItems(optimizedStatement, result.getColumnLabels(), result.getOrderDirections());
+        return result;
+    }
+    
+    private void fillDistinctOrderByItems(final ShardingSelectOptimizedStatement optimizedStatement, final List<String> columnLabels, final List<OrderDirection> orderDirections) {
+        for (OrderByItem each : optimizedStatement.getOrderBy().getItems()) {
+            columnLabels.add(getColumnLabel(each));
+            orderDirections.add(each.getSegment().getOrderDirection());
+        }
+        int distinctColumnCount = optimizedStatement.getSelectItems().getColumnLabels().size();
+        for (int i = 1; i <= distinctColumnCount; i++) {
+            columnLabels.add(String.valueOf(i));
+            orderDirections.add(OrderDirection.ASC);
+        }
+    }
+    
+    private String getColumnLabel(final OrderByItem orderByItem) {
+        if (orderByItem.getSegment() instanceof ColumnOrderByItemSegment) {
+            ColumnOrderByItemSegment columnOrderByItemSegment = (ColumnOrderByItemSegment) orderByItem.getSegment();
+            QuoteCharacter quoteCharacter = columnOrderByItemSegment.getColumn().getQuoteCharacter();
+            return quoteCharacter.getStartDelimiter() + columnOrderByItemSegment.getText() + quoteCharacter.getEndDelimiter();
+        }
+        if (orderByItem.getSegment() instanceof ExpressionOrderByItemSegment) {
+            return ((ExpressionOrderByItemSegment) orderByItem.getSegment()).getText();
+        }
+        return String.valueOf(orderByItem.getIndex());
+    }
 }
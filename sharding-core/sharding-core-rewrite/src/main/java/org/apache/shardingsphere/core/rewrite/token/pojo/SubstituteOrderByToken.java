@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Substitute order by token.
+ *
+ * @author agent
+ */
+@Getter
+public final class SubstituteOrderByToken extends SQLToken implements Substitutable {
+    
+    private final int stopIndex;
+    
+    private final List<String> columnLabels = new LinkedList<>();
+    
+    private final List<OrderDirection> orderDirections = new LinkedList<>();
+    
+    public SubstituteOrderByToken(final int startIndex, final int stopIndex) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append("ORDER BY ");
+        for (int i = 0; i < columnLabels.size(); i++) {
+            if (0 != i) {
+                result.append(",");
+            }
+            result.append(columnLabels.get(i)).append(" ").append(orderDirections.get(i).name());
+        }
+        return result.toString();
+    }
+}
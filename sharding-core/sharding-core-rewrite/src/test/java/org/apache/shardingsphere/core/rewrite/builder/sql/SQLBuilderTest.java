@@ -18,12 +18,17 @@
 package org.apache.shardingsphere.core.rewrite.builder.sql;
 
 import org.apache.shardingsphere.core.parse.core.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RemoveToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -50,4 +55,33 @@ public final class SQLBuilderTest {
     public void assertToSQLWithTokens() {
         assertThat(sqlBuilderWithTokens.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 WHERE order_id > 1"));
     }
+    
+    @Test
+    public void assertToSQLWithMultipleTokens() {
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = 1", 
+                Arrays.<SQLToken>asList(new TableToken(14, 20, "t_order", QuoteCharacter.NONE), new TableToken(29, 40, "t_order_item", QuoteCharacter.NONE), new RemoveToken(71, 90)));
+        Map<String, String> logicAndActualTables = new HashMap<>(2, 1);
+        logicAndActualTables.put("t_order", "t_order_1");
+        logicAndActualTables.put("t_order_item", "t_order_item_1");
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_1 o JOIN t_order_item_1 i ON o.order_id = i.order_id "));
+    }
+    
+    @Test
+    public void assertToSQLWithTokenAtEnd() {
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT * FROM t_order", Collections.<SQLToken>singletonList(new TableToken(14, 20, "t_order", QuoteCharacter.NONE)));
+        assertThat(sqlBuilder.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertToSQLWithMultipleRoutingUnits() {
+        assertToSQLWithRoutingUnits(1);
+        assertToSQLWithRoutingUnits(64);
+        assertToSQLWithRoutingUnits(1024);
+    }
+    
+    private void assertToSQLWithRoutingUnits(final int routingUnitCount) {
+        for (int i = 0; i < routingUnitCount; i++) {
+            assertThat(sqlBuilderWithTokens.toSQL(new RoutingUnit("ds_" + i), Collections.singletonMap("t_order", "t_order_" + i)), is("SELECT * FROM t_order_" + i + " WHERE order_id > 1"));
+        }
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.rewrite.rewriter;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.optimize.api.statement.InsertOptimizedStatement;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.core.rewrite.statement.constant.ShardingDerived
 import org.apache.shardingsphere.core.optimize.sharding.segment.groupby.GroupBy;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationDistinctSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.item.ColumnSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.DerivedSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.item.SelectItems;
@@ -52,9 +54,12 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralE
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ColumnSelectItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.OrderBySegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.rownum.NumberLiteralRowNumberValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.SchemaSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
@@ -64,6 +69,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.rewrite.builder.parameter.standard.StandardParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
@@ -90,7 +97,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ShardingSQLRewriteEngineTest {
@@ -158,6 +167,24 @@ public final class ShardingSQLRewriteEngineTest {
         return result;
     }
     
+    @Test
+    public void assertRewriteWithReusableSQLTokens() {
+        String sql = "SELECT table_x.id, x.name FROM table_x x WHERE table_x.id=? AND x.name=?";
+        Optional<List<SQLToken>> reusableSQLTokens = createSQLRewriteEngine(createRouteResultForTableName(), sql, Arrays.<Object>asList(1, "x")).getReusableSQLTokens();
+        assertTrue(reusableSQLTokens.isPresent());
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, createRouteResultForTableName(), sql, Arrays.<Object>asList(2, "y"), reusableSQLTokens.get());
+        SQLUnit actual = rewriteEngine.generateSQL(null, logicTableAndActualTables);
+        assertThat(actual.getSql(), is("SELECT table_1.id, x.name FROM table_1 x WHERE table_1.id=? AND x.name=?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(2, "y")));
+    }
+    
+    @Test
+    public void assertGetReusableSQLTokensWithDerivedColumns() {
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(
+                createRouteResultForOrderByAndGroupByDerivedColumns(), "SELECT x.age FROM table_x x GROUP BY x.id ORDER BY x.name", Collections.emptyList());
+        assertFalse(rewriteEngine.getReusableSQLTokens().isPresent());
+    }
+    
     @Test
     public void assertRewriteOrderByAndGroupByDerivedColumns() {
         SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(
@@ -601,6 +628,75 @@ public final class ShardingSQLRewriteEngineTest {
         return result;
     }
     
+    @Test
+    public void assertRewriteOrderByForGroupByStreamMerge() {
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(
+                createRouteResultForGroupByStreamMerge(), "SELECT x.id, COUNT(*) AS c FROM table_x x GROUP BY x.id ORDER BY c DESC", Collections.emptyList());
+        assertThat(rewriteEngine.generateSQL(null, logicTableAndActualTables).getSql(), is("SELECT x.id, COUNT(*) AS c FROM table_1 x GROUP BY x.id ORDER BY x.id ASC"));
+    }
+    
+    private SQLRouteResult createRouteResultForGroupByStreamMerge() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getAllSQLSegments().add(new TableSegment(32, 38, "table_x"));
+        ColumnSegment groupByColumnSegment = new ColumnSegment(0, 0, "id");
+        groupByColumnSegment.setOwner(new TableSegment(0, 0, "x"));
+        ColumnOrderByItemSegment orderByItemSegment = new ColumnOrderByItemSegment(65, 70, new ColumnSegment(65, 65, "c"), OrderDirection.DESC, OrderDirection.ASC);
+        selectStatement.setOrderBy(new OrderBySegment(56, 70, Collections.<OrderByItemSegment>singletonList(orderByItemSegment)));
+        ShardingSelectOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(selectStatement,
+                new GroupBy(Collections.singletonList(new OrderByItem(new ColumnOrderByItemSegment(0, 0, groupByColumnSegment, OrderDirection.ASC, OrderDirection.ASC))), 54),
+                new OrderBy(Collections.singletonList(new OrderByItem(orderByItemSegment)), false),
+                new SelectItems(0, 0, false, Collections.<SelectItem>emptyList(), Collections.<TableSegment>emptyList(), null), new Pagination(null, null, Collections.emptyList()));
+        shardingStatement.setGroupByStreamMergeEnabled(true);
+        SQLRouteResult result = new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(selectStatement), new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        result.setRoutingResult(new RoutingResult());
+        return result;
+    }
+    
+    @Test
+    public void assertRewriteOrderByForDistinctStreamMergeWithWhere() {
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(
+                createRouteResultForDistinctStreamMergeWithWhere(), "SELECT DISTINCT x.id FROM table_x x WHERE x.id > 1", Collections.emptyList());
+        assertThat(rewriteEngine.generateSQL(null, logicTableAndActualTables).getSql(), is("SELECT DISTINCT x.id FROM table_1 x WHERE x.id > 1 ORDER BY 1 ASC "));
+    }
+    
+    private SQLRouteResult createRouteResultForDistinctStreamMergeWithWhere() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getAllSQLSegments().add(new TableSegment(26, 32, "table_x"));
+        selectStatement.setWhere(new WhereSegment(36, 49, 0));
+        ShardingSelectOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(selectStatement, 
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(0, 0, true, Collections.<SelectItem>singletonList(new ColumnSelectItem("x", "id", null)), Collections.<TableSegment>emptyList(), null), 
+                new Pagination(null, null, Collections.emptyList()));
+        shardingStatement.setDistinctStreamMergeEnabled(true);
+        SQLRouteResult result = new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(selectStatement), new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        result.setRoutingResult(new RoutingResult());
+        return result;
+    }
+    
+    @Test
+    public void assertRewriteOrderByForDistinctStreamMergeWithOrderBy() {
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(
+                createRouteResultForDistinctStreamMergeWithOrderBy(), "SELECT DISTINCT x.id, x.name FROM table_x x ORDER BY x.name DESC", Collections.emptyList());
+        assertThat(rewriteEngine.generateSQL(null, logicTableAndActualTables).getSql(), is("SELECT DISTINCT x.id, x.name FROM table_1 x ORDER BY x.name DESC,1 ASC,2 ASC"));
+    }
+    
+    private SQLRouteResult createRouteResultForDistinctStreamMergeWithOrderBy() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getAllSQLSegments().add(new TableSegment(34, 40, "table_x"));
+        ColumnSegment orderByColumnSegment = new ColumnSegment(53, 58, "name");
+        orderByColumnSegment.setOwner(new TableSegment(53, 53, "x"));
+        ColumnOrderByItemSegment orderByItemSegment = new ColumnOrderByItemSegment(53, 63, orderByColumnSegment, OrderDirection.DESC, OrderDirection.ASC);
+        selectStatement.setOrderBy(new OrderBySegment(44, 63, Collections.<OrderByItemSegment>singletonList(orderByItemSegment)));
+        ShardingSelectOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(selectStatement, 
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.singletonList(new OrderByItem(orderByItemSegment)), false),
+                new SelectItems(0, 0, true, Arrays.<SelectItem>asList(new ColumnSelectItem("x", "id", null), new ColumnSelectItem("x", "name", null)), Collections.<TableSegment>emptyList(), null), 
+                new Pagination(null, null, Collections.emptyList()));
+        shardingStatement.setDistinctStreamMergeEnabled(true);
+        SQLRouteResult result = new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(selectStatement), new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        result.setRoutingResult(new RoutingResult());
+        return result;
+    }
+    
     @Test
     public void assertRewriteIndexTokenForIndexNameTableName() {
         SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(createRouteResultForIndexTokenForIndexNameTableName(), "CREATE INDEX index_name ON table_x ('column')", Collections.emptyList());
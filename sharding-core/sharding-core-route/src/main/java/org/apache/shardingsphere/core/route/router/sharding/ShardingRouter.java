@@ -73,14 +73,21 @@ public final class ShardingRouter {
     private final List<Comparable<?>> generatedValues = new LinkedList<>();
     
     /**
-     * Parse SQL.
+     * Parse and validate SQL.
+     *
+     * <p>Validation depends on SQL structure only, so parsed result can be routed many times without validating again.</p>
      *
      * @param logicSQL logic SQL
      * @param useCache use cache to save SQL parse result or not
      * @return parse result
      */
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
-        return parseEngine.parse(logicSQL, useCache);
+        SQLStatement result = parseEngine.parse(logicSQL, useCache);
+        Optional<ShardingStatementValidator> shardingStatementValidator = ShardingStatementValidatorFactory.newInstance(result);
+        if (shardingStatementValidator.isPresent()) {
+            shardingStatementValidator.get().validate(shardingRule, result);
+        }
+        return result;
     }
     
     /**
@@ -93,10 +100,6 @@ public final class ShardingRouter {
      */
     @SuppressWarnings("unchecked")
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
-        Optional<ShardingStatementValidator> shardingStatementValidator = ShardingStatementValidatorFactory.newInstance(sqlStatement);
-        if (shardingStatementValidator.isPresent()) {
-            shardingStatementValidator.get().validate(shardingRule, sqlStatement);
-        }
         ShardingOptimizedStatement shardingStatement = ShardingOptimizeEngineFactory.newInstance(shardingRule, metaData.getTables(), logicSQL, parameters, sqlStatement);
         Optional<GeneratedKey> generatedKey = sqlStatement instanceof InsertStatement
                 ? GeneratedKey.getGenerateKey(shardingRule, metaData.getTables(), parameters, (InsertStatement) sqlStatement) : Optional.<GeneratedKey>absent();
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByTopNUtil;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.core.parse.sql.segment.ddl.index.IndexSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.AlterTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateTableStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.ddl.DDLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
@@ -136,6 +138,14 @@ public class AbstractStatementExecutor {
         return result;
     }
     
+    protected final void setPaginationHint(final Statement statement) throws SQLException {
+        Optional<Integer> maxRowsHint = OrderByTopNUtil.getMaxRowsHint(connection.getRuntimeContext().getDatabaseType(), optimizedStatement, connection.getRuntimeContext().getProps());
+        if (maxRowsHint.isPresent()) {
+            statement.setMaxRows(maxRowsHint.get());
+            statement.setFetchSize(maxRowsHint.get());
+        }
+    }
+    
     protected final boolean isAccumulate() {
         return !connection.getRuntimeContext().getRule().isAllBroadcastTables(optimizedStatement.getTables().getTableNames());
     }
@@ -146,6 +156,7 @@ public class AbstractStatementExecutor {
      * @throws SQLException sql exception
      */
     public void clear() throws SQLException {
+        clearResultSets();
         clearStatements();
         statements.clear();
         parameterSets.clear();
@@ -154,16 +165,33 @@ public class AbstractStatementExecutor {
         executeGroups.clear();
     }
     
+    private void clearResultSets() throws SQLException {
+        if (0 == connection.getPreparedStatementCache().getMaximumSize()) {
+            return;
+        }
+        for (ResultSet each : resultSets) {
+            each.close();
+        }
+    }
+    
     private void clearStatements() throws SQLException {
         for (Statement each : getStatements()) {
-            each.close();
+            if (!connection.getPreparedStatementCache().release(each)) {
+                each.close();
+            }
         }
     }
     
     private void refreshMetaDataIfNeeded(final ShardingRuntimeContext runtimeContext, final OptimizedStatement optimizedStatement) throws SQLException {
-        if (null == optimizedStatement) {
+        if (null == optimizedStatement || !(optimizedStatement.getSqlStatement() instanceof DDLStatement)) {
             return;
         }
+        synchronized (runtimeContext.getMetaDataRefreshLock()) {
+            refreshMetaData(runtimeContext, optimizedStatement);
+        }
+    }
+    
+    private void refreshMetaData(final ShardingRuntimeContext runtimeContext, final OptimizedStatement optimizedStatement) throws SQLException {
         if (optimizedStatement.getSqlStatement() instanceof CreateTableStatement) {
             refreshTableMetaDataForCreateTable(runtimeContext, optimizedStatement);
         } else if (optimizedStatement.getSqlStatement() instanceof AlterTableStatement) {
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch insert coalescer.
+ * 
+ * <p>
+ * Coalesce rows added by addBatch of single values insert into multiple values inserts.
+ * Rows are split into chunks of coalesce size, the rest rows are split into chunks of power of 2 sizes,
+ * so only a few distinct coalesced SQL are parsed and cached.
+ * </p>
+ *
+ * @author agent
+ */
+public final class BatchInsertCoalescer {
+    
+    private final String sqlPrefix;
+    
+    private final String valuesSQL;
+    
+    private final String sqlSuffix;
+    
+    private final int coalesceSize;
+    
+    private final List<List<Object>> batchedParameters = new ArrayList<>();
+    
+    private final Map<Integer, String> coalescedSQLs = new HashMap<>();
+    
+    private BatchInsertCoalescer(final String sql, final InsertValuesSegment insertValuesSegment, final int coalesceSize) {
+        sqlPrefix = sql.substring(0, insertValuesSegment.getStartIndex());
+        valuesSQL = sql.substring(insertValuesSegment.getStartIndex(), insertValuesSegment.getStopIndex() + 1);
+        sqlSuffix = sql.substring(insertValuesSegment.getStopIndex() + 1);
+        this.coalesceSize = coalesceSize;
+    }
+    
+    /**
+     * Create new instance of batch insert coalescer.
+     * 
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @param coalesceSize max rows of coalesced insert
+     * @return batch insert coalescer, absent if SQL statement is not single values insert which all parameters are in values
+     */
+    public static Optional<BatchInsertCoalescer> newInstance(final String sql, final SQLStatement sqlStatement, final int coalesceSize) {
+        if (coalesceSize < 2 || !(sqlStatement instanceof InsertStatement)) {
+            return Optional.absent();
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        if (insertStatement.getSetAssignment().isPresent() || 1 != insertStatement.getValues().size() || insertStatement.findSQLSegment(OnDuplicateKeyColumnsSegment.class).isPresent()) {
+            return Optional.absent();
+        }
+        InsertValuesSegment insertValuesSegment = insertStatement.getValues().iterator().next();
+        return getParametersCount(insertValuesSegment) == insertStatement.getParametersCount()
+                ? Optional.of(new BatchInsertCoalescer(sql, insertValuesSegment, coalesceSize)) : Optional.<BatchInsertCoalescer>absent();
+    }
+    
+    private static int getParametersCount(final InsertValuesSegment insertValuesSegment) {
+        int result = 0;
+        for (ExpressionSegment each : insertValuesSegment.getValues()) {
+            if (each instanceof ParameterMarkerExpressionSegment) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Add batch.
+     * 
+     * @param parameters parameters of row
+     */
+    public void addBatch(final List<Object> parameters) {
+        batchedParameters.add(new ArrayList<>(parameters));
+    }
+    
+    /**
+     * Get row counts of chunks.
+     * 
+     * @return row counts of chunks
+     */
+    public List<Integer> getChunkRowCounts() {
+        List<Integer> result = new LinkedList<>();
+        int restRowCount = batchedParameters.size();
+        for (; restRowCount >= coalesceSize; restRowCount -= coalesceSize) {
+            result.add(coalesceSize);
+        }
+        while (restRowCount > 0) {
+            int rowCount = Integer.highestOneBit(restRowCount);
+            result.add(rowCount);
+            restRowCount -= rowCount;
+        }
+        return result;
+    }
+    
+    /**
+     * Get coalesced SQL.
+     * 
+     * @param rowCount row count of chunk
+     * @return coalesced SQL
+     */
+    public String getSQL(final int rowCount) {
+        String result = coalescedSQLs.get(rowCount);
+        if (null == result) {
+            result = createSQL(rowCount);
+            coalescedSQLs.put(rowCount, result);
+        }
+        return result;
+    }
+    
+    private String createSQL(final int rowCount) {
+        StringBuilder result = new StringBuilder(sqlPrefix.length() + (valuesSQL.length() + 2) * rowCount + sqlSuffix.length());
+        result.append(sqlPrefix).append(valuesSQL);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(", ").append(valuesSQL);
+        }
+        return result.append(sqlSuffix).toString();
+    }
+    
+    /**
+     * Get parameters of chunk.
+     * 
+     * @param startRowIndex start row index of chunk
+     * @param rowCount row count of chunk
+     * @return parameters of chunk
+     */
+    public List<Object> getParameters(final int startRowIndex, final int rowCount) {
+        List<Object> result = new ArrayList<>(rowCount * batchedParameters.get(startRowIndex).size());
+        for (List<Object> each : batchedParameters.subList(startRowIndex, startRowIndex + rowCount)) {
+            result.addAll(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Get update counts of rows.
+     * 
+     * @param chunkRowCounts row counts of chunks
+     * @param chunkUpdateCounts update counts of chunks
+     * @return update counts of rows in order of addBatch
+     */
+    public int[] getUpdateCounts(final List<Integer> chunkRowCounts, final int[] chunkUpdateCounts) {
+        int[] result = new int[batchedParameters.size()];
+        int rowIndex = 0;
+        int chunkIndex = 0;
+        for (int each : chunkRowCounts) {
+            int updateCount = getUpdateCount(each, chunkUpdateCounts[chunkIndex++]);
+            for (int i = 0; i < each; i++) {
+                result[rowIndex++] = updateCount;
+            }
+        }
+        return result;
+    }
+    
+    private int getUpdateCount(final int rowCount, final int chunkUpdateCount) {
+        if (rowCount == chunkUpdateCount) {
+            return 1;
+        }
+        return 0 == chunkUpdateCount ? 0 : Statement.SUCCESS_NO_INFO;
+    }
+    
+    /**
+     * Clear batched rows.
+     */
+    public void clear() {
+        batchedParameters.clear();
+    }
+}
@@ -82,15 +82,15 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
             
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
-                return new StatementExecuteUnit(routeUnit, createPreparedStatement(connection, routeUnit.getSqlUnit().getSql()), connectionMode);
+                PreparedStatement preparedStatement = createPreparedStatement(connection, routeUnit.getSqlUnit().getSql());
+                setPaginationHint(preparedStatement);
+                return new StatementExecuteUnit(routeUnit, preparedStatement, connectionMode);
             }
         });
     }
     
-    @SuppressWarnings("MagicConstant")
     private PreparedStatement createPreparedStatement(final Connection connection, final String sql) throws SQLException {
-        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql, getResultSetType(), getResultSetConcurrency(), getResultSetHoldability());
+        return getConnection().getPreparedStatementCache().getPreparedStatement(connection, sql, getResultSetType(), getResultSetConcurrency(), getResultSetHoldability(), returnGeneratedKeys);
     }
     
     /**
@@ -77,7 +77,9 @@ public final class StatementExecutor extends AbstractStatementExecutor {
             @SuppressWarnings("MagicConstant")
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
-                return new StatementExecuteUnit(routeUnit, connection.createStatement(getResultSetType(), getResultSetConcurrency(), getResultSetHoldability()), connectionMode);
+                Statement statement = connection.createStatement(getResultSetType(), getResultSetConcurrency(), getResultSetHoldability());
+                setPaginationHint(statement);
+                return new StatementExecuteUnit(routeUnit, statement, connectionMode);
             }
         });
     }
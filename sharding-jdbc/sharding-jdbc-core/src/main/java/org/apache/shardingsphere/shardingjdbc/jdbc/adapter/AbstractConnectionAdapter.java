@@ -17,16 +17,18 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.adapter;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.execute.ForceExecuteCallback;
+import org.apache.shardingsphere.core.execute.ForceExecuteTemplate;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
-import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
-import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationConnection;
 import org.apache.shardingsphere.transaction.core.TransactionTypeHolder;
 
@@ -156,6 +158,15 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     protected abstract Map<String, DataSource> getDataSourceMap();
     
+    /**
+     * Get execute engine for committing, rolling back and setting auto commit of cached connections in parallel.
+     * 
+     * @return execute engine, absent means executing serially
+     */
+    protected Optional<ShardingExecuteEngine> getTransactionExecuteEngine() {
+        return Optional.absent();
+    }
+    
     @Override
     public final boolean getAutoCommit() {
         return autoCommit;
@@ -169,7 +180,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private void setAutoCommitForLocalTransaction(final boolean autoCommit) throws SQLException {
         recordMethodInvocation(Connection.class, "setAutoCommit", new Class[]{boolean.class}, new Object[]{autoCommit});
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+        forceExecuteForTransaction(new ForceExecuteCallback<Connection>() {
             
             @Override
             public void execute(final Connection connection) throws SQLException {
@@ -180,8 +191,8 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public void commit() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
-        
+        forceExecuteForTransaction(new ForceExecuteCallback<Connection>() {
+            
             @Override
             public void execute(final Connection connection) throws SQLException {
                 connection.commit();
@@ -191,8 +202,8 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public void rollback() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
-        
+        forceExecuteForTransaction(new ForceExecuteCallback<Connection>() {
+            
             @Override
             public void execute(final Connection connection) throws SQLException {
                 connection.rollback();
@@ -200,12 +211,37 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         });
     }
     
+    private void forceExecuteForTransaction(final ForceExecuteCallback<Connection> callback) throws SQLException {
+        Optional<ShardingExecuteEngine> executeEngine = getTransactionExecuteEngine();
+        if (executeEngine.isPresent() && cachedConnections.keySet().size() > 1) {
+            forceExecuteTemplate.execute(executeEngine.get(), cachedConnections.asMap(), callback);
+        } else {
+            forceExecuteTemplate.execute(cachedConnections.values(), callback);
+        }
+    }
+    
     @Override
     public final void close() throws SQLException {
         closed = true;
         MasterVisitedManager.clear();
         TransactionTypeHolder.clear();
         int connectionSize = cachedConnections.size();
+        try {
+            closeCachedStatements();
+        } finally {
+            closeCachedConnections(connectionSize);
+        }
+    }
+    
+    /**
+     * Close statements cached by connection before cached connections closed.
+     * 
+     * @throws SQLException SQL exception
+     */
+    protected void closeCachedStatements() throws SQLException {
+    }
+    
+    private void closeCachedConnections(final int connectionSize) throws SQLException {
         try {
             forceExecuteTemplateForClose.execute(cachedConnections.entries(), new ForceExecuteCallback<Entry<String, Connection>>() {
         
@@ -19,9 +19,7 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.adapter;
 
 import com.google.common.io.CharStreams;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.exception.ShardingException;
-import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.invocation.SetParameterMethodInvocation;
 import org.apache.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationPreparedStatement;
 
 import java.io.IOException;
@@ -33,12 +31,12 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -49,8 +47,6 @@ import java.util.List;
  */
 public abstract class AbstractShardingPreparedStatementAdapter extends AbstractUnsupportedOperationPreparedStatement {
     
-    private final List<SetParameterMethodInvocation> setParameterMethodInvocations = new LinkedList<>();
-    
     @Getter
     private final List<Object> parameters = new ArrayList<>();
     
@@ -273,29 +269,15 @@ public abstract class AbstractShardingPreparedStatementAdapter extends AbstractU
         parameters.set(parameterIndex - 1, value);
     }
     
-    protected final void replaySetParameter(final PreparedStatement preparedStatement, final List<Object> parameters) {
-        setParameterMethodInvocations.clear();
-        addParameters(parameters);
-        for (SetParameterMethodInvocation each : setParameterMethodInvocations) {
-            each.invoke(preparedStatement);
-        }
-    }
-    
-    private void addParameters(final List<Object> parameters) {
-        int i = 0;
+    protected final void replaySetParameter(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
+        int parameterIndex = 1;
         for (Object each : parameters) {
-            setParameter(new Class[]{int.class, Object.class}, i++ + 1, each);
+            preparedStatement.setObject(parameterIndex++, each);
         }
     }
     
-    @SneakyThrows
-    private void setParameter(final Class[] argumentTypes, final Object... arguments) {
-        setParameterMethodInvocations.add(new SetParameterMethodInvocation(PreparedStatement.class.getMethod("setObject", argumentTypes), arguments, arguments[1]));
-    }
-    
     @Override
     public final void clearParameters() {
         parameters.clear();
-        setParameterMethodInvocations.clear();
     }
 }
@@ -18,8 +18,8 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.adapter;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
-import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
+import org.apache.shardingsphere.core.execute.ForceExecuteCallback;
+import org.apache.shardingsphere.core.execute.ForceExecuteTemplate;
 import org.apache.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationStatement;
 
 import java.sql.SQLException;
@@ -56,7 +56,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         
                 @Override
                 public void execute(final Statement statement) throws SQLException {
-                    statement.close();
+                    closeRoutedStatement(statement);
                 }
             });
         } finally {
@@ -64,6 +64,10 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         }
     }
     
+    protected void closeRoutedStatement(final Statement statement) throws SQLException {
+        statement.close();
+    }
+    
     @Override
     public final boolean isClosed() {
         return closed;
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Prepared statement cache of physical connections.
+ * 
+ * <p>
+ * Physical prepared statements are keyed by connection, actual SQL and statement options.
+ * A statement is owned by only one executor between get and release, released statements are kept idle and evicted by LRU.
+ * Parameters, current result set and statement properties are reset when released.
+ * </p>
+ *
+ * @author agent
+ */
+public final class PreparedStatementCache {
+    
+    @Getter
+    private final int maximumSize;
+    
+    private final LinkedHashMap<CacheKey, CachedPreparedStatement> idlePreparedStatements = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final Map<Statement, CachedPreparedStatement> usedPreparedStatements = new IdentityHashMap<>();
+    
+    public PreparedStatementCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+    
+    /**
+     * Get prepared statement from cache, create new one if absent.
+     * 
+     * @param connection physical connection
+     * @param sql actual SQL
+     * @param resultSetType result set type
+     * @param resultSetConcurrency result set concurrency
+     * @param resultSetHoldability result set holdability
+     * @param returnGeneratedKeys return generated keys or not
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement getPreparedStatement(final Connection connection, final String sql, 
+                                                  final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys) throws SQLException {
+        CacheKey cacheKey = new CacheKey(connection, sql, resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys);
+        if (maximumSize < 1) {
+            return createPreparedStatement(cacheKey);
+        }
+        CachedPreparedStatement result;
+        synchronized (this) {
+            result = idlePreparedStatements.remove(cacheKey);
+        }
+        if (null == result || result.getPreparedStatement().isClosed()) {
+            result = new CachedPreparedStatement(cacheKey, createPreparedStatement(cacheKey));
+        }
+        synchronized (this) {
+            usedPreparedStatements.put(result.getPreparedStatement(), result);
+        }
+        return result.getPreparedStatement();
+    }
+    
+    @SuppressWarnings("MagicConstant")
+    private PreparedStatement createPreparedStatement(final CacheKey cacheKey) throws SQLException {
+        return cacheKey.returnGeneratedKeys ? cacheKey.connection.prepareStatement(cacheKey.sql, Statement.RETURN_GENERATED_KEYS)
+                : cacheKey.connection.prepareStatement(cacheKey.sql, cacheKey.resultSetType, cacheKey.resultSetConcurrency, cacheKey.resultSetHoldability);
+    }
+    
+    /**
+     * Release statement to cache.
+     * 
+     * @param statement statement to be released
+     * @return released or not, statement not got from cache will not be released
+     * @throws SQLException SQL exception
+     */
+    public boolean release(final Statement statement) throws SQLException {
+        CachedPreparedStatement cachedPreparedStatement;
+        synchronized (this) {
+            cachedPreparedStatement = usedPreparedStatements.remove(statement);
+        }
+        if (null == cachedPreparedStatement) {
+            return false;
+        }
+        if (statement.isClosed()) {
+            return true;
+        }
+        try {
+            cachedPreparedStatement.reset();
+        } catch (final SQLException ex) {
+            statement.close();
+            throw ex;
+        }
+        for (CachedPreparedStatement each : putIdlePreparedStatement(cachedPreparedStatement)) {
+            each.getPreparedStatement().close();
+        }
+        return true;
+    }
+    
+    private synchronized Collection<CachedPreparedStatement> putIdlePreparedStatement(final CachedPreparedStatement cachedPreparedStatement) {
+        Collection<CachedPreparedStatement> result = new LinkedList<>();
+        CachedPreparedStatement replaced = idlePreparedStatements.put(cachedPreparedStatement.getCacheKey(), cachedPreparedStatement);
+        if (null != replaced) {
+            result.add(replaced);
+        }
+        Iterator<CachedPreparedStatement> iterator = idlePreparedStatements.values().iterator();
+        while (idlePreparedStatements.size() > maximumSize) {
+            result.add(iterator.next());
+            iterator.remove();
+        }
+        return result;
+    }
+    
+    /**
+     * Close idle prepared statements and clear cache.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void clear() throws SQLException {
+        Collection<CachedPreparedStatement> idlePreparedStatements;
+        synchronized (this) {
+            idlePreparedStatements = new LinkedList<>(this.idlePreparedStatements.values());
+            this.idlePreparedStatements.clear();
+            usedPreparedStatements.clear();
+        }
+        SQLException exception = null;
+        for (CachedPreparedStatement each : idlePreparedStatements) {
+            try {
+                each.getPreparedStatement().close();
+            } catch (final SQLException ex) {
+                exception = ex;
+            }
+        }
+        if (null != exception) {
+            throw exception;
+        }
+    }
+    
+    /**
+     * Get idle prepared statements size.
+     * 
+     * @return idle prepared statements size
+     */
+    public synchronized int getIdleSize() {
+        return idlePreparedStatements.size();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final int resultSetType;
+        
+        private final int resultSetConcurrency;
+        
+        private final int resultSetHoldability;
+        
+        private final boolean returnGeneratedKeys;
+    }
+    
+    @Getter
+    private static final class CachedPreparedStatement {
+        
+        private final CacheKey cacheKey;
+        
+        private final PreparedStatement preparedStatement;
+        
+        private final int maxRows;
+        
+        private final int fetchSize;
+        
+        private final int queryTimeout;
+        
+        private final int maxFieldSize;
+        
+        CachedPreparedStatement(final CacheKey cacheKey, final PreparedStatement preparedStatement) throws SQLException {
+            this.cacheKey = cacheKey;
+            this.preparedStatement = preparedStatement;
+            maxRows = preparedStatement.getMaxRows();
+            fetchSize = preparedStatement.getFetchSize();
+            queryTimeout = preparedStatement.getQueryTimeout();
+            maxFieldSize = preparedStatement.getMaxFieldSize();
+        }
+        
+        void reset() throws SQLException {
+            ResultSet resultSet = preparedStatement.getResultSet();
+            if (null != resultSet) {
+                resultSet.close();
+            }
+            preparedStatement.clearParameters();
+            if (maxRows != preparedStatement.getMaxRows()) {
+                preparedStatement.setMaxRows(maxRows);
+            }
+            if (fetchSize != preparedStatement.getFetchSize()) {
+                preparedStatement.setFetchSize(fetchSize);
+            }
+            if (queryTimeout != preparedStatement.getQueryTimeout()) {
+                preparedStatement.setQueryTimeout(queryTimeout);
+            }
+            if (maxFieldSize != preparedStatement.getMaxFieldSize()) {
+                preparedStatement.setMaxFieldSize(maxFieldSize);
+            }
+        }
+    }
+}
@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
 
+import com.google.common.base.Optional;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ForceExecuteCallback;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractConnectionAdapter;
-import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ShardingRuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingPreparedStatement;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingStatement;
@@ -53,11 +56,17 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     
     private final ShardingTransactionManager shardingTransactionManager;
     
+    private final PreparedStatementCache preparedStatementCache;
+    
+    private final boolean parallelTransactionEnabled;
+    
     public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingRuntimeContext runtimeContext, final TransactionType transactionType) {
         this.dataSourceMap = dataSourceMap;
         this.runtimeContext = runtimeContext;
         this.transactionType = transactionType;
         shardingTransactionManager = runtimeContext.getShardingTransactionManagerEngine().getTransactionManager(transactionType);
+        preparedStatementCache = new PreparedStatementCache(runtimeContext.getProps().<Integer>getValue(ShardingPropertiesConstant.PREPARED_STATEMENT_CACHE_SIZE));
+        parallelTransactionEnabled = runtimeContext.getProps().<Boolean>getValue(ShardingPropertiesConstant.TRANSACTION_PARALLEL_ENABLED);
     }
     
     /**
@@ -78,6 +87,11 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         return null != shardingTransactionManager && shardingTransactionManager.isInTransaction();
     }
     
+    @Override
+    protected Optional<ShardingExecuteEngine> getTransactionExecuteEngine() {
+        return parallelTransactionEnabled ? Optional.of(runtimeContext.getExecuteEngine()) : Optional.<ShardingExecuteEngine>absent();
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() throws SQLException {
         return getCachedConnections().isEmpty() ? runtimeContext.getCachedDatabaseMetaData() : getCachedConnections().values().iterator().next().getMetaData();
@@ -149,6 +163,7 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     }
     
     private void closeCachedConnections() throws SQLException {
+        preparedStatementCache.clear();
         getForceExecuteTemplate().execute(getCachedConnections().values(), new ForceExecuteCallback<Connection>() {
             
             @Override
@@ -176,4 +191,9 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
             shardingTransactionManager.rollback();
         }
     }
+    
+    @Override
+    protected void closeCachedStatements() throws SQLException {
+        preparedStatementCache.clear();
+    }
 }
@@ -53,8 +53,9 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
         this.rule = rule;
         this.props = new ShardingProperties(null == props ? new Properties() : props);
         this.databaseType = databaseType;
-        executeEngine = new ShardingExecuteEngine(this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType);
+        executeEngine = new ShardingExecuteEngine(this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE),
+                this.props.<Boolean>getValue(ShardingPropertiesConstant.EXECUTOR_WORK_STEALING_ENABLED), this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE));
+        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType, this.props.<Integer>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_SIZE));
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
@@ -17,26 +17,38 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataSnapshot;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.ShardingRuleConfigurationYamlSwapper;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 
 import javax.sql.DataSource;
+import java.io.File;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Runtime context for sharding.
@@ -46,6 +58,7 @@ import java.util.Properties;
  * @author zhangliang
  */
 @Getter
+@Slf4j
 public final class ShardingRuntimeContext extends AbstractRuntimeContext<ShardingRule> {
     
     private final DatabaseMetaData cachedDatabaseMetaData;
@@ -54,6 +67,10 @@ public final class ShardingRuntimeContext extends AbstractRuntimeContext<Shardin
     
     private final ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     
+    private final Object metaDataRefreshLock = new Object();
+    
+    private ExecutorService metaDataRefreshExecutorService;
+    
     public ShardingRuntimeContext(final Map<String, DataSource> dataSourceMap, final ShardingRule rule, final Properties props, final DatabaseType databaseType) throws SQLException {
         super(rule, props, databaseType);
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap, rule);
@@ -69,11 +86,56 @@ public final class ShardingRuntimeContext extends AbstractRuntimeContext<Shardin
     }
     
     private ShardingSphereMetaData createMetaData(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType) throws SQLException {
-        DataSourceMetas dataSourceMetas = new DataSourceMetas(getDataSourceURLs(dataSourceMap), databaseType);
-        TableMetas tableMetas = new TableMetas(getTableMetaDataInitializer(dataSourceMap, dataSourceMetas).load(shardingRule));
+        Map<String, String> dataSourceURLs = getDataSourceURLs(dataSourceMap);
+        DataSourceMetas dataSourceMetas = new DataSourceMetas(dataSourceURLs, databaseType);
+        TableMetaDataInitializer tableMetaDataInitializer = getTableMetaDataInitializer(dataSourceMap, dataSourceMetas);
+        String snapshotFile = getProps().getValue(ShardingPropertiesConstant.TABLE_METADATA_SNAPSHOT_FILE);
+        if (Strings.isNullOrEmpty(snapshotFile)) {
+            return new ShardingSphereMetaData(dataSourceMetas, new TableMetas(tableMetaDataInitializer.load(shardingRule)));
+        }
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(new File(snapshotFile), getSnapshotConfiguration(shardingRule, dataSourceURLs));
+        Optional<Map<String, TableMetaData>> snapshotTables = snapshot.load();
+        if (!snapshotTables.isPresent()) {
+            Map<String, TableMetaData> tables = tableMetaDataInitializer.load(shardingRule);
+            snapshot.save(tables);
+            return new ShardingSphereMetaData(dataSourceMetas, new TableMetas(tables));
+        }
+        TableMetas tableMetas = new TableMetas(snapshotTables.get());
+        refreshTableMetas(tableMetaDataInitializer, shardingRule, tableMetas, snapshot);
         return new ShardingSphereMetaData(dataSourceMetas, tableMetas);
     }
     
+    private String getSnapshotConfiguration(final ShardingRule shardingRule, final Map<String, String> dataSourceURLs) {
+        return YamlEngine.marshal(new ShardingRuleConfigurationYamlSwapper().swap(shardingRule.getRuleConfiguration())) + dataSourceURLs
+                + getProps().<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED);
+    }
+    
+    private void refreshTableMetas(final TableMetaDataInitializer tableMetaDataInitializer, final ShardingRule shardingRule, final TableMetas tableMetas, final TableMetaDataSnapshot snapshot) {
+        metaDataRefreshExecutorService = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("MetaDataRefresh-%d"));
+        metaDataRefreshExecutorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                synchronized (metaDataRefreshLock) {
+                    try {
+                        Map<String, TableMetaData> tables = tableMetaDataInitializer.load(shardingRule);
+                        for (String each : new HashSet<>(tableMetas.getAllTableNames())) {
+                            if (!tables.containsKey(each)) {
+                                tableMetas.remove(each);
+                            }
+                        }
+                        for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+                            tableMetas.put(entry.getKey(), entry.getValue());
+                        }
+                        snapshot.save(tables);
+                    } catch (final SQLException ex) {
+                        log.warn("Cannot refresh table meta data loaded from snapshot.", ex);
+                    }
+                }
+            }
+        });
+    }
+    
     private Map<String, String> getDataSourceURLs(final Map<String, DataSource> dataSourceMap) throws SQLException {
         Map<String, String> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
@@ -96,6 +158,9 @@ public final class ShardingRuntimeContext extends AbstractRuntimeContext<Shardin
     
     @Override
     public void close() throws Exception {
+        if (null != metaDataRefreshExecutorService) {
+            metaDataRefreshExecutorService.shutdownNow();
+        }
         shardingTransactionManagerEngine.close();
         super.close();
     }
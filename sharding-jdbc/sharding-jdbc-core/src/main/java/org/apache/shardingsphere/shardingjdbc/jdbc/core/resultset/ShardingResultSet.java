@@ -21,6 +21,8 @@ import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractResultSetAdapter;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -325,4 +327,16 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     public Object getObject(final String columnLabel) throws SQLException {
         return mergeResultSet.getValue(getActualColumnLabel(columnLabel), Object.class);
     }
+    
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        if (!(mergeResultSet instanceof Closeable)) {
+            return;
+        }
+        try {
+            ((Closeable) mergeResultSet).close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Collections2;
 import lombok.Getter;
 import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSe
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.shardingjdbc.executor.BatchInsertCoalescer;
 import org.apache.shardingsphere.shardingjdbc.executor.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractShardingPreparedStatementAdapter;
@@ -46,7 +48,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * PreparedStatement that support sharding.
@@ -69,6 +73,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final Map<String, PreparedQueryShardingEngine> coalescedShardingEngines = new HashMap<>();
+    
+    private Optional<BatchInsertCoalescer> batchInsertCoalescer;
+    
     private SQLRouteResult sqlRouteResult;
     
     private ResultSet currentResultSet;
@@ -107,7 +115,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             shard();
             initPreparedStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getRuntimeContext().getDatabaseType(), 
-                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getTables(), preparedStatementExecutor.executeQuery());
+                    connection.getRuntimeContext().getRule(), connection.getRuntimeContext().getProps(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getTables(), preparedStatementExecutor.executeQuery());
             result = getResultSet(mergeEngine);
         } finally {
             clearBatch();
@@ -130,7 +138,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
         if (sqlRouteResult.getShardingStatement() instanceof ShardingSelectOptimizedStatement || sqlRouteResult.getShardingStatement().getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getRuntimeContext().getDatabaseType(),
-                    connection.getRuntimeContext().getRule(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getTables(), queryResults);
+                    connection.getRuntimeContext().getRule(), connection.getRuntimeContext().getProps(), sqlRouteResult, connection.getRuntimeContext().getMetaData().getTables(), queryResults);
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -192,7 +200,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         replayMethodForStatements();
     }
     
-    private void setParametersForStatements() {
+    private void setParametersForStatements() throws SQLException {
         for (int i = 0; i < preparedStatementExecutor.getStatements().size(); i++) {
             replaySetParameter((PreparedStatement) preparedStatementExecutor.getStatements().get(i), preparedStatementExecutor.getParameterSets().get(i));
         }
@@ -211,14 +219,28 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Override
     public void addBatch() {
         try {
-            shard();
-            batchPreparedStatementExecutor.addBatchForRouteUnits(sqlRouteResult);
+            if (getBatchInsertCoalescer().isPresent()) {
+                batchInsertCoalescer.get().addBatch(getParameters());
+            } else {
+                shard();
+                batchPreparedStatementExecutor.addBatchForRouteUnits(sqlRouteResult);
+            }
         } finally {
             currentResultSet = null;
             clearParameters();
         }
     }
     
+    private Optional<BatchInsertCoalescer> getBatchInsertCoalescer() {
+        if (null == batchInsertCoalescer) {
+            ShardingRuntimeContext runtimeContext = connection.getRuntimeContext();
+            int coalesceSize = runtimeContext.getProps().<Integer>getValue(ShardingPropertiesConstant.BATCH_INSERT_COALESCE_SIZE);
+            batchInsertCoalescer = coalesceSize > 1 && !batchPreparedStatementExecutor.isReturnGeneratedKeys() && !"Oracle".equals(runtimeContext.getDatabaseType().getName())
+                    ? BatchInsertCoalescer.newInstance(sql, runtimeContext.getParseEngine().parse(sql, true), coalesceSize) : Optional.<BatchInsertCoalescer>absent();
+        }
+        return batchInsertCoalescer;
+    }
+    
     private void shard() {
         sqlRouteResult = shardingEngine.shard(sql, getParameters());
     }
@@ -226,6 +248,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Override
     public int[] executeBatch() throws SQLException {
         try {
+            if (null != batchInsertCoalescer && batchInsertCoalescer.isPresent()) {
+                return executeCoalescedBatch(batchInsertCoalescer.get());
+            }
             initBatchPreparedStatementExecutor();
             return batchPreparedStatementExecutor.executeBatch();
         } finally {
@@ -233,6 +258,32 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
     }
     
+    private int[] executeCoalescedBatch(final BatchInsertCoalescer coalescer) throws SQLException {
+        List<Integer> chunkRowCounts = coalescer.getChunkRowCounts();
+        if (chunkRowCounts.isEmpty()) {
+            return new int[0];
+        }
+        int startRowIndex = 0;
+        for (int each : chunkRowCounts) {
+            String coalescedSQL = coalescer.getSQL(each);
+            sqlRouteResult = getCoalescedShardingEngine(coalescedSQL).shard(coalescedSQL, coalescer.getParameters(startRowIndex, each));
+            batchPreparedStatementExecutor.addBatchForRouteUnits(sqlRouteResult);
+            startRowIndex += each;
+        }
+        initBatchPreparedStatementExecutor();
+        return coalescer.getUpdateCounts(chunkRowCounts, batchPreparedStatementExecutor.executeBatch());
+    }
+    
+    private PreparedQueryShardingEngine getCoalescedShardingEngine(final String coalescedSQL) {
+        PreparedQueryShardingEngine result = coalescedShardingEngines.get(coalescedSQL);
+        if (null == result) {
+            ShardingRuntimeContext runtimeContext = connection.getRuntimeContext();
+            result = new PreparedQueryShardingEngine(coalescedSQL, runtimeContext.getRule(), runtimeContext.getProps(), runtimeContext.getMetaData(), runtimeContext.getParseEngine());
+            coalescedShardingEngines.put(coalescedSQL, result);
+        }
+        return result;
+    }
+    
     private void initBatchPreparedStatementExecutor() throws SQLException {
         batchPreparedStatementExecutor.init(sqlRouteResult);
         setBatchParametersForStatements();
@@ -252,6 +303,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     public void clearBatch() throws SQLException {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        if (null != batchInsertCoalescer && batchInsertCoalescer.isPresent()) {
+            batchInsertCoalescer.get().clear();
+        }
         clearParameters();
     }
     
@@ -277,6 +331,13 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return !connection.getRuntimeContext().getRule().isAllBroadcastTables(sqlRouteResult.getShardingStatement().getTables().getTableNames());
     }
     
+    @Override
+    protected void closeRoutedStatement(final Statement statement) throws SQLException {
+        if (!connection.getPreparedStatementCache().release(statement)) {
+            statement.close();
+        }
+    }
+    
     @Override
     public Collection<PreparedStatement> getRoutedStatements() {
         return Collections2.transform(preparedStatementExecutor.getStatements(), new Function<Statement, PreparedStatement>() {
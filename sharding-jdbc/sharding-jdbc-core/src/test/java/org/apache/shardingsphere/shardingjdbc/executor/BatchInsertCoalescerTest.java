@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BatchInsertCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    public void assertNewInstanceWithSingleValuesInsert() {
+        assertTrue(BatchInsertCoalescer.newInstance(SQL, createInsertStatement(2), 4).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutCoalesceSize() {
+        assertFalse(BatchInsertCoalescer.newInstance(SQL, createInsertStatement(2), 1).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithNotInsertStatement() {
+        assertFalse(BatchInsertCoalescer.newInstance("SELECT * FROM t_order", new SelectStatement(), 4).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithParametersOutOfValues() {
+        assertFalse(BatchInsertCoalescer.newInstance(SQL, createInsertStatement(3), 4).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithOnDuplicateKeyUpdate() {
+        InsertStatement insertStatement = createInsertStatement(2);
+        insertStatement.getAllSQLSegments().add(new OnDuplicateKeyColumnsSegment(54, 80, Collections.<ColumnSegment>emptyList()));
+        assertFalse(BatchInsertCoalescer.newInstance(SQL, insertStatement, 4).isPresent());
+    }
+    
+    @Test
+    public void assertGetChunkRowCounts() {
+        BatchInsertCoalescer actual = createBatchInsertCoalescer(11);
+        assertThat(actual.getChunkRowCounts(), is(Arrays.asList(4, 4, 2, 1)));
+    }
+    
+    @Test
+    public void assertGetSQL() {
+        BatchInsertCoalescer actual = createBatchInsertCoalescer(3);
+        assertThat(actual.getSQL(1), is(SQL));
+        assertThat(actual.getSQL(3), is("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    public void assertGetParameters() {
+        BatchInsertCoalescer actual = createBatchInsertCoalescer(3);
+        assertThat(actual.getParameters(1, 2), is(Arrays.<Object>asList(1, 10, 2, 20)));
+    }
+    
+    @Test
+    public void assertGetUpdateCounts() {
+        BatchInsertCoalescer actual = createBatchInsertCoalescer(7);
+        List<Integer> chunkRowCounts = actual.getChunkRowCounts();
+        assertThat(actual.getUpdateCounts(chunkRowCounts, new int[] {4, 0, 3}), is(new int[] {1, 1, 1, 1, 0, 0, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    @Test
+    public void assertClear() {
+        BatchInsertCoalescer actual = createBatchInsertCoalescer(3);
+        actual.clear();
+        assertTrue(actual.getChunkRowCounts().isEmpty());
+    }
+    
+    private BatchInsertCoalescer createBatchInsertCoalescer(final int rowCount) {
+        Optional<BatchInsertCoalescer> result = BatchInsertCoalescer.newInstance(SQL, createInsertStatement(2), 4);
+        assertTrue(result.isPresent());
+        for (int i = 0; i < rowCount; i++) {
+            result.get().addBatch(Arrays.<Object>asList(i, i * 10));
+        }
+        return result.get();
+    }
+    
+    private InsertStatement createInsertStatement(final int parametersCount) {
+        InsertStatement result = new InsertStatement();
+        result.getValues().add(new InsertValuesSegment(47, 52, Arrays.<ExpressionSegment>asList(new ParameterMarkerExpressionSegment(48, 48, 0), new ParameterMarkerExpressionSegment(51, 51, 1))));
+        result.setParametersCount(parametersCount);
+        return result;
+    }
+}
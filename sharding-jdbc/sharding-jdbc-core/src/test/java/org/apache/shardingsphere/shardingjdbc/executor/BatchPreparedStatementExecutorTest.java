@@ -23,6 +23,7 @@ import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.route.BatchRouteUnit;
 import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.junit.Test;
 
@@ -31,11 +32,15 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -121,24 +126,48 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForRouteUnits() throws SQLException {
+        actual.addBatchForRouteUnits(createSQLRouteResult(1, "ds_0", "ds_1"));
+        actual.addBatchForRouteUnits(createSQLRouteResult(2, "ds_1"));
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[] {1});
+        when(preparedStatement2.executeBatch()).thenReturn(new int[] {1, 1});
+        when(getConnection().getConnection("ds_0").prepareStatement(SQL, 1, 1, 1)).thenReturn(preparedStatement1, preparedStatement2);
+        actual.init(createSQLRouteResult(2, "ds_1"));
+        assertThat(actual.getStatements(), is(Arrays.<Statement>asList(preparedStatement1, preparedStatement2)));
+        assertThat(actual.getParameterSet(preparedStatement1), is(Collections.singletonList(Collections.<Object>singletonList(1))));
+        assertThat(actual.getParameterSet(preparedStatement2), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(2))));
+        assertThat(actual.executeBatch(), is(new int[] {2, 1}));
+    }
+    
+    private SQLRouteResult createSQLRouteResult(final Object parameter, final String... dataSourceNames) {
+        SQLRouteResult result = new SQLRouteResult(null, null, null);
+        for (String each : dataSourceNames) {
+            result.getRouteUnits().add(new RouteUnit(each, new SQLUnit(SQL, new ArrayList<>(Collections.singletonList(parameter)))));
+        }
+        return result;
+    }
+    
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements) throws SQLException {
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new ShardingExecuteGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+        Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit(SQL, Collections.singletonList((Object) 1)));
             BatchRouteUnit batchRouteUnit = new BatchRouteUnit(routeUnit);
             batchRouteUnit.mapAddBatchCount(0);
             batchRouteUnit.mapAddBatchCount(1);
-            routeUnits.add(batchRouteUnit);
+            routeUnits.put(routeUnit, batchRouteUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(routeUnit, each, ConnectionMode.MEMORY_STRICTLY));
         }
         setFields(executeGroups, routeUnits);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits) {
+    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Map<RouteUnit, BatchRouteUnit> routeUnits) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("executeGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
@@ -30,15 +30,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.sql.Connection;
-import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class SQLExecuteCallbackFactoryTest {
@@ -46,19 +43,10 @@ public class SQLExecuteCallbackFactoryTest {
     @Mock
     private PreparedStatement preparedStatement;
     
-    @Mock
-    private Connection connection;
-    
-    @Mock
-    private DatabaseMetaData metaData;
-    
     private Collection<StatementExecuteUnit> units;
     
     @Before
-    public void setUp() throws SQLException {
-        when(preparedStatement.getConnection()).thenReturn(connection);
-        when(connection.getMetaData()).thenReturn(metaData);
-        when(metaData.getURL()).thenReturn("jdbc:mysql://localhost:3306/test");
+    public void setUp() {
         units = Lists.newArrayList(
             new StatementExecuteUnit(new RouteUnit("ds", new SQLUnit("SELECT now()", Collections.emptyList())), preparedStatement, ConnectionMode.CONNECTION_STRICTLY)
         );
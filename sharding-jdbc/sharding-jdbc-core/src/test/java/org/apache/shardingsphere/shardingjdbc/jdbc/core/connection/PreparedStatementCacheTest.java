@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order_0 WHERE order_id = ?";
+    
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenAnswer(new Answer<PreparedStatement>() {
+            
+            @Override
+            public PreparedStatement answer(final InvocationOnMock invocation) {
+                return mock(PreparedStatement.class);
+            }
+        });
+    }
+    
+    @Test
+    public void assertGetPreparedStatementWithoutCache() throws SQLException {
+        PreparedStatementCache actual = new PreparedStatementCache(0);
+        PreparedStatement preparedStatement = getPreparedStatement(actual, SQL);
+        assertFalse(actual.release(preparedStatement));
+        assertThat(getPreparedStatement(actual, SQL), not(preparedStatement));
+        assertThat(actual.getIdleSize(), is(0));
+    }
+    
+    @Test
+    public void assertGetPreparedStatementFromCache() throws SQLException {
+        PreparedStatementCache actual = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = getPreparedStatement(actual, SQL);
+        assertTrue(actual.release(preparedStatement));
+        assertThat(actual.getIdleSize(), is(1));
+        assertThat(getPreparedStatement(actual, SQL), is(preparedStatement));
+        assertThat(actual.getIdleSize(), is(0));
+        verify(connection, times(1)).prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+        verify(preparedStatement).clearParameters();
+        verify(preparedStatement, never()).close();
+    }
+    
+    @Test
+    public void assertGetPreparedStatementWhenInUse() throws SQLException {
+        PreparedStatementCache actual = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = getPreparedStatement(actual, SQL);
+        assertThat(getPreparedStatement(actual, SQL), not(preparedStatement));
+    }
+    
+    @Test
+    public void assertGetPreparedStatementWithClosedStatement() throws SQLException {
+        PreparedStatementCache actual = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = getPreparedStatement(actual, SQL);
+        assertTrue(actual.release(preparedStatement));
+        when(preparedStatement.isClosed()).thenReturn(true);
+        assertThat(getPreparedStatement(actual, SQL), not(preparedStatement));
+    }
+    
+    @Test
+    public void assertReleaseWithResetStatement() throws SQLException {
+        PreparedStatementCache actual = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = getPreparedStatement(actual, SQL);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.getResultSet()).thenReturn(resultSet);
+        when(preparedStatement.getMaxRows()).thenReturn(10);
+        assertTrue(actual.release(preparedStatement));
+        verify(resultSet).close();
+        verify(preparedStatement).setMaxRows(0);
+    }
+    
+    @Test
+    public void assertReleaseWithEvictStatement() throws SQLException {
+        PreparedStatementCache actual = new PreparedStatementCache(1);
+        PreparedStatement preparedStatement1 = getPreparedStatement(actual, SQL);
+        PreparedStatement preparedStatement2 = getPreparedStatement(actual, "SELECT * FROM t_order_1 WHERE order_id = ?");
+        assertTrue(actual.release(preparedStatement1));
+        assertTrue(actual.release(preparedStatement2));
+        assertThat(actual.getIdleSize(), is(1));
+        verify(preparedStatement1).close();
+        verify(preparedStatement2, never()).close();
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        PreparedStatementCache actual = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = getPreparedStatement(actual, SQL);
+        assertTrue(actual.release(preparedStatement));
+        actual.clear();
+        assertThat(actual.getIdleSize(), is(0));
+        verify(preparedStatement).close();
+    }
+    
+    private PreparedStatement getPreparedStatement(final PreparedStatementCache preparedStatementCache, final String sql) throws SQLException {
+        return preparedStatementCache.getPreparedStatement(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false);
+    }
+}
@@ -32,6 +32,8 @@ import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -59,7 +61,9 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public final class ShardingResultSetTest {
     
@@ -114,6 +118,13 @@ public final class ShardingResultSetTest {
         assertTrue(shardingResultSet.next());
     }
     
+    @Test
+    public void assertCloseWithCloseableMergedResult() throws SQLException, IOException {
+        MergedResult closeableMergedResult = mock(MergedResult.class, withSettings().extraInterfaces(Closeable.class));
+        new ShardingResultSet(getResultSets(), closeableMergedResult, getShardingStatement(), createSQLRouteResult()).close();
+        verify((Closeable) closeableMergedResult).close();
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingResultSet.wasNull());
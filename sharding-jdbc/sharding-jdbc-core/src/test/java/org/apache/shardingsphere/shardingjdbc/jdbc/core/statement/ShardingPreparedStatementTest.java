@@ -17,15 +17,22 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
 import org.apache.shardingsphere.shardingjdbc.jdbc.JDBCTestSQL;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
 import org.junit.Test;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -66,6 +73,76 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertAddBatchWithCoalescedInsert() throws Exception {
+        ShardingDataSource coalescingDataSource = createCoalescingDataSource();
+        try (
+            Connection connection = coalescingDataSource.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order_item (order_id, user_id, status) VALUES (?, ?, ?)");
+            Statement queryStatement = connection.createStatement()) {
+            int[][] orderAndUserIds = {{11, 11}, {12, 12}, {21, 21}, {22, 22}, {11, 11}};
+            for (int[] each : orderAndUserIds) {
+                preparedStatement.setInt(1, each[0]);
+                preparedStatement.setInt(2, each[1]);
+                preparedStatement.setString(3, "BATCH");
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(5));
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+            assertThat(countBatchRows(queryStatement, 11, 11), is(2));
+            assertThat(countBatchRows(queryStatement, 12, 12), is(1));
+            assertThat(countBatchRows(queryStatement, 21, 21), is(1));
+            assertThat(countBatchRows(queryStatement, 22, 22), is(1));
+        } finally {
+            coalescingDataSource.close(Collections.<String>emptyList());
+        }
+    }
+    
+    @Test
+    public void assertAddBatchWithGeneratedKeysNotCoalesced() throws Exception {
+        ShardingDataSource coalescingDataSource = createCoalescingDataSource();
+        try (
+            Connection connection = coalescingDataSource.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order_item (order_id, user_id, status) VALUES (?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            int[][] orderAndUserIds = {{11, 11}, {12, 12}, {21, 21}, {22, 22}};
+            for (int[] each : orderAndUserIds) {
+                preparedStatement.setInt(1, each[0]);
+                preparedStatement.setInt(2, each[1]);
+                preparedStatement.setString(3, "BATCH");
+                preparedStatement.addBatch();
+            }
+            assertThat(preparedStatement.executeBatch(), is(new int[] {1, 1, 1, 1}));
+            ResultSet generateKeyResultSet = preparedStatement.getGeneratedKeys();
+            for (long each = 1L; each <= 4L; each++) {
+                assertTrue(generateKeyResultSet.next());
+                assertThat(generateKeyResultSet.getLong(1), is(each));
+            }
+            assertFalse(generateKeyResultSet.next());
+        } finally {
+            coalescingDataSource.close(Collections.<String>emptyList());
+        }
+    }
+    
+    private ShardingDataSource createCoalescingDataSource() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.BATCH_INSERT_COALESCE_SIZE.getKey(), "2");
+        Map<String, DataSource> dataSourceMap = getShardingDataSource().getDataSourceMap();
+        return new ShardingDataSource(dataSourceMap, new ShardingRule(getShardingDataSource().getRuntimeContext().getRule().getRuleConfiguration(), dataSourceMap.keySet()), props);
+    }
+    
+    private int countBatchRows(final Statement queryStatement, final int userId, final int orderId) throws SQLException {
+        int result = 0;
+        try (ResultSet resultSet = queryStatement.executeQuery(String.format(JDBCTestSQL.SELECT_WITH_AUTO_INCREMENT_COLUMN_SQL, userId, orderId))) {
+            while (resultSet.next()) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
     @Test
     public void assertAddBatchWithoutGenerateKeyColumn() throws SQLException {
         String sql = "INSERT INTO t_order_item (order_id, user_id, status) VALUES (?, ?, ?)";
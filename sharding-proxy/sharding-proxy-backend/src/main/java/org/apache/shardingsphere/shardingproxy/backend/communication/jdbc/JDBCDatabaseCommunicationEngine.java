@@ -43,11 +43,13 @@ import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -72,6 +74,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private List<Integer> columnTypes;
+    
     @Override
     public BackendResponse execute() {
         try {
@@ -110,6 +114,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         setMergedResult(routeResult);
         resetColumnLabelForShowTablesMergedResult();
         handleColumnsForQueryHeader(routeResult);
+        columnTypes = getColumnTypes(((QueryResponse) response).getQueryHeaders());
         return response;
     }
     
@@ -125,7 +130,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private void setMergedResult(final SQLRouteResult routeResult) throws SQLException {
         mergedResult = MergeEngineFactory.newInstance(LogicSchemas.getInstance().getDatabaseType(),
-                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTables(), ((QueryResponse) response).getQueryResults()).merge();
+                logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getShardingProperties(), routeResult, logicSchema.getMetaData().getTables(), ((QueryResponse) response).getQueryResults()).merge();
+        executeEngine.getBackendConnection().add(mergedResult);
     }
     
     private void resetColumnLabelForShowTablesMergedResult() {
@@ -198,7 +204,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
             row.add(mergedResult.getValue(columnIndex, Object.class));
         }
-        return new QueryData(getColumnTypes(queryHeaders), row);
+        return new QueryData(columnTypes, row);
     }
     
     private List<Integer> getColumnTypes(final List<QueryHeader> queryHeaders) {
@@ -206,6 +212,6 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         for (QueryHeader each : queryHeaders) {
             result.add(each.getColumnType());
         }
-        return result;
+        return Collections.unmodifiableList(result);
     }
 }
@@ -24,13 +24,20 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.sql.execute.CompletionOrderExecuteResults;
+import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -39,6 +46,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -74,8 +83,16 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
+    private final Collection<CompletionOrderExecuteResults<?>> cachedExecuteResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
+    private final Map<String, PreparedQueryShardingEngine> cachedPreparedQueryShardingEngines = new ConcurrentHashMap<>();
+    
+    private ShardingRule preparedShardingRule;
+    
     @Getter
     private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
     
@@ -117,6 +134,30 @@ public final class BackendConnection implements AutoCloseable {
         }
         this.schemaName = schemaName;
         this.logicSchema = LogicSchemas.getInstance().getLogicSchema(schemaName);
+        cachedPreparedQueryShardingEngines.clear();
+    }
+    
+    /**
+     * Get prepared query sharding engine of current logic schema.
+     *
+     * <p>Following executions of same prepared statement reuse the engine, until logic schema or its sharding rule is changed.</p>
+     *
+     * @param sql SQL of prepared statement
+     * @return prepared query sharding engine
+     */
+    public synchronized PreparedQueryShardingEngine getPreparedQueryShardingEngine(final String sql) {
+        Preconditions.checkNotNull(logicSchema, "current logic schema is null");
+        ShardingRule shardingRule = logicSchema.getShardingRule();
+        if (shardingRule != preparedShardingRule) {
+            cachedPreparedQueryShardingEngines.clear();
+            preparedShardingRule = shardingRule;
+        }
+        PreparedQueryShardingEngine result = cachedPreparedQueryShardingEngines.get(sql);
+        if (null == result) {
+            result = new PreparedQueryShardingEngine(sql, shardingRule, ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), logicSchema.getParseEngine());
+            cachedPreparedQueryShardingEngines.put(sql, result);
+        }
+        return result;
     }
     
     @SneakyThrows
@@ -234,6 +275,24 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
+    /**
+     * Add execute results.
+     *
+     * @param executeResults execute results to be added
+     */
+    public void add(final CompletionOrderExecuteResults<?> executeResults) {
+        cachedExecuteResults.add(executeResults);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -248,6 +307,8 @@ public final class BackendConnection implements AutoCloseable {
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        closeExecuteResults();
+        exceptions.addAll(closeMergedResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         if (!stateHandler.isInTransaction() || forceClose) {
@@ -257,6 +318,28 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private void closeExecuteResults() {
+        for (CompletionOrderExecuteResults<?> each : cachedExecuteResults) {
+            each.close();
+        }
+        cachedExecuteResults.clear();
+    }
+    
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (MergedResult each : cachedMergedResults) {
+            if (each instanceof Closeable) {
+                try {
+                    ((Closeable) each).close();
+                } catch (final IOException ex) {
+                    result.add(new SQLException(ex));
+                }
+            }
+        }
+        cachedMergedResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -19,11 +19,14 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.conne
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ForceExecuteCallback;
+import org.apache.shardingsphere.core.execute.ForceExecuteTemplate;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Collection;
-import java.util.LinkedList;
 
 /**
  * Local transaction manager.
@@ -35,6 +38,8 @@ public final class LocalTransactionManager implements TransactionManager {
     
     private final BackendConnection connection;
     
+    private final ForceExecuteTemplate<Connection> forceExecuteTemplate = new ForceExecuteTemplate<>();
+    
     @Override
     public void begin() {
         recordMethodInvocation(Connection.class, "setAutoCommit", new Class[]{boolean.class}, new Object[]{false});
@@ -43,54 +48,40 @@ public final class LocalTransactionManager implements TransactionManager {
     @Override
     public void commit() throws SQLException {
         if (connection.getStateHandler().isInTransaction()) {
-            Collection<SQLException> exceptions = new LinkedList<>();
-            exceptions.addAll(commitConnections());
-            throwSQLExceptionIfNecessary(exceptions);
+            finishConnections(new ForceExecuteCallback<Connection>() {
+                
+                @Override
+                public void execute(final Connection cachedConnection) throws SQLException {
+                    cachedConnection.commit();
+                }
+            });
         }
     }
     
     @Override
     public void rollback() throws SQLException {
         if (connection.getStateHandler().isInTransaction()) {
-            Collection<SQLException> exceptions = new LinkedList<>();
-            exceptions.addAll(rollbackConnections());
-            throwSQLExceptionIfNecessary(exceptions);
-        }
-    }
-    
-    private Collection<SQLException> commitConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
-            try {
-                each.commit();
-            } catch (final SQLException ex) {
-                result.add(ex);
-            }
+            finishConnections(new ForceExecuteCallback<Connection>() {
+                
+                @Override
+                public void execute(final Connection cachedConnection) throws SQLException {
+                    cachedConnection.rollback();
+                }
+            });
         }
-        return result;
     }
     
-    private Collection<SQLException> rollbackConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
-            try {
-                each.rollback();
-            } catch (final SQLException ex) {
-                result.add(ex);
-            }
+    private void finishConnections(final ForceExecuteCallback<Connection> callback) throws SQLException {
+        if (isParallelEnabled()) {
+            forceExecuteTemplate.execute(BackendExecutorContext.getInstance().getExecuteEngine(), connection.getCachedConnections().asMap(), callback);
+        } else {
+            forceExecuteTemplate.execute(connection.getCachedConnections().values(), callback);
         }
-        return result;
     }
     
-    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
-        if (exceptions.isEmpty()) {
-            return;
-        }
-        SQLException ex = new SQLException();
-        for (SQLException each : exceptions) {
-            ex.setNextException(each);
-        }
-        throw ex;
+    private boolean isParallelEnabled() {
+        return ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.TRANSACTION_PARALLEL_ENABLED)
+                && connection.getCachedConnections().keySet().size() > 1;
     }
     
     @SneakyThrows
@@ -17,14 +17,19 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.sql.execute.CompletionOrderExecuteResults;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxyJDBCExecutePrepareCallback;
@@ -76,7 +81,10 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         boolean isReturnGeneratedKeys = routeResult.getShardingStatement().getSqlStatement() instanceof InsertStatement;
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(
-                routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(backendConnection, jdbcExecutorWrapper, isReturnGeneratedKeys));
+                routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(backendConnection, jdbcExecutorWrapper, routeResult.getShardingStatement(), isReturnGeneratedKeys));
+        if (isAsyncExecute(routeResult, sqlExecuteGroups)) {
+            return asyncExecute((Collection) sqlExecuteGroups, isExceptionThrown);
+        }
         Collection<ExecuteResponse> executeResponses = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, 
                 new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true), 
                 new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
@@ -85,6 +93,28 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
                 ? getExecuteQueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses) : new UpdateResponse(executeResponses);
     }
     
+    private boolean isAsyncExecute(final SQLRouteResult routeResult, final Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups) {
+        return ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_BACKEND_ASYNC_EXECUTE_ENABLED)
+                && routeResult.getShardingStatement().getSqlStatement() instanceof SelectStatement && sqlExecuteGroups.size() > 1 && !backendConnection.isSerialExecute();
+    }
+    
+    private BackendResponse asyncExecute(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, final boolean isExceptionThrown) throws SQLException {
+        CompletionOrderExecuteResults<ExecuteResponse> executeResponses = sqlExecuteTemplate.asyncExecuteGroup(
+                sqlExecuteGroups, new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, false, true, false));
+        backendConnection.add(executeResponses);
+        ExecuteResponse executeResponse = executeResponses.getResult(0);
+        if (!(executeResponse instanceof ExecuteQueryResponse)) {
+            return new UpdateResponse(executeResponses);
+        }
+        return new QueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), Lists.transform(executeResponses, new Function<ExecuteResponse, QueryResult>() {
+            
+            @Override
+            public QueryResult apply(final ExecuteResponse input) {
+                return ((ExecuteQueryResponse) input).getQueryResult();
+            }
+        }));
+    }
+    
     private BackendResponse getExecuteQueryResponse(final List<QueryHeader> queryHeaders, final Collection<ExecuteResponse> executeResponses) {
         QueryResponse result = new QueryResponse(queryHeaders);
         for (ExecuteResponse each : executeResponses) {
@@ -17,16 +17,21 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareCallback;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByTopNUtil;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.spi.database.MySQLDatabaseType;
 import org.apache.shardingsphere.core.spi.database.PostgreSQLDatabaseType;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -49,6 +54,8 @@ public final class ProxyJDBCExecutePrepareCallback implements SQLExecutePrepareC
     
     private final JDBCExecutorWrapper jdbcExecutorWrapper;
     
+    private final OptimizedStatement optimizedStatement;
+    
     private final boolean isReturnGeneratedKeys;
     
     @Override
@@ -66,6 +73,22 @@ public final class ProxyJDBCExecutePrepareCallback implements SQLExecutePrepareC
                 statement.setFetchSize(POSTGRESQL_MEMORY_FETCH_ONE_ROW_A_TIME);
             }
         }
+        int queryTimeoutSeconds = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_QUERY_TIMEOUT_SECONDS);
+        if (queryTimeoutSeconds > 0) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+        }
+        setPaginationHint(statement, connectionMode);
         return new StatementExecuteUnit(routeUnit, statement, connectionMode);
     }
+    
+    private void setPaginationHint(final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+        Optional<Integer> maxRowsHint = OrderByTopNUtil.getMaxRowsHint(LogicSchemas.getInstance().getDatabaseType(), optimizedStatement, ShardingProxyContext.getInstance().getShardingProperties());
+        if (!maxRowsHint.isPresent()) {
+            return;
+        }
+        statement.setMaxRows(maxRowsHint.get());
+        if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
+            statement.setFetchSize(maxRowsHint.get());
+        }
+    }
 }
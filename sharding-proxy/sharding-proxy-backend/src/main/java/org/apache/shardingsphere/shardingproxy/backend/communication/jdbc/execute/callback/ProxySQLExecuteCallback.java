@@ -60,25 +60,42 @@ public final class ProxySQLExecuteCallback extends SQLExecuteCallback<ExecuteRes
     
     private final boolean fetchMetaData;
     
+    private final boolean fetchMetaDataOnce;
+    
     private boolean hasMetaData;
     
     public ProxySQLExecuteCallback(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper, 
                                    final boolean isExceptionThrown, final boolean isReturnGeneratedKeys, final boolean fetchMetaData) {
+        this(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, fetchMetaData, true);
+    }
+    
+    public ProxySQLExecuteCallback(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper,
+                                   final boolean isExceptionThrown, final boolean isReturnGeneratedKeys, final boolean fetchMetaData, final boolean fetchMetaDataOnce) {
         super(LogicSchemas.getInstance().getDatabaseType(), isExceptionThrown);
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
         this.isReturnGeneratedKeys = isReturnGeneratedKeys;
         this.fetchMetaData = fetchMetaData;
+        this.fetchMetaDataOnce = fetchMetaDataOnce;
     }
     
     @Override
     public ExecuteResponse executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
-        boolean withMetaData = false;
-        if (fetchMetaData && !hasMetaData) {
-            hasMetaData = true;
-            withMetaData = true;
+        return executeSQL(statement, routeUnit.getSqlUnit().getSql(), connectionMode, isFetchMetaData());
+    }
+    
+    private boolean isFetchMetaData() {
+        if (!fetchMetaData) {
+            return false;
+        }
+        if (!fetchMetaDataOnce) {
+            return true;
+        }
+        if (hasMetaData) {
+            return false;
         }
-        return executeSQL(statement, routeUnit.getSqlUnit().getSql(), connectionMode, withMetaData);
+        hasMetaData = true;
+        return true;
     }
     
     private ExecuteResponse executeSQL(final Statement statement, final String sql, final ConnectionMode connectionMode, final boolean withMetadata) throws SQLException {
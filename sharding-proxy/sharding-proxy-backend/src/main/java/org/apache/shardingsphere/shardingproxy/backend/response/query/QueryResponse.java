@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.response.query;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 
@@ -30,11 +30,15 @@ import java.util.List;
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 public final class QueryResponse implements BackendResponse {
     
     private final List<QueryHeader> queryHeaders;
     
-    private final List<QueryResult> queryResults = new LinkedList<>();
+    private final List<QueryResult> queryResults;
+    
+    public QueryResponse(final List<QueryHeader> queryHeaders) {
+        this(queryHeaders, new LinkedList<QueryResult>());
+    }
 }
@@ -18,8 +18,12 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.sql.execute.CompletionOrderExecuteResults;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
@@ -27,9 +31,12 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -41,16 +48,19 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class BackendConnectionTest {
@@ -214,6 +224,40 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertCloseMergedResultOfAbortedQuery() throws SQLException, IOException {
+        MergedResult mergedResult = mock(MergedResult.class, withSettings().extraInterfaces(Closeable.class));
+        when(mergedResult.next()).thenReturn(true);
+        backendConnection.add(mergedResult);
+        assertTrue(mergedResult.next());
+        backendConnection.close(true);
+        verify((Closeable) mergedResult).close();
+        assertTrue(backendConnection.getCachedMergedResults().isEmpty());
+    }
+    
+    @Test
+    public void assertCloseExecuteResultsBeforeStatements() throws SQLException {
+        CompletionOrderExecuteResults<?> executeResults = mock(CompletionOrderExecuteResults.class);
+        Statement statement = mock(Statement.class);
+        backendConnection.add(executeResults);
+        backendConnection.add(statement);
+        backendConnection.close(true);
+        InOrder inOrder = inOrder(executeResults, statement);
+        inOrder.verify(executeResults).close();
+        inOrder.verify(statement).close();
+        assertTrue(backendConnection.getCachedExecuteResults().isEmpty());
+    }
+    
+    @Test
+    public void assertGetPreparedQueryShardingEngine() {
+        when(backendConnection.getLogicSchema().getShardingRule()).thenReturn(mock(ShardingRule.class));
+        PreparedQueryShardingEngine actual = backendConnection.getPreparedQueryShardingEngine("SELECT 1");
+        assertThat(backendConnection.getPreparedQueryShardingEngine("SELECT 1"), is(actual));
+        assertThat(backendConnection.getPreparedQueryShardingEngine("SELECT 2"), not(actual));
+        when(backendConnection.getLogicSchema().getShardingRule()).thenReturn(mock(ShardingRule.class));
+        assertThat(backendConnection.getPreparedQueryShardingEngine("SELECT 1"), not(actual));
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
@@ -25,6 +26,8 @@ import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketFactory;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
@@ -37,14 +40,25 @@ import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
 import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Command execute engine for MySQL.
+ * 
+ * <p>
+ * If flush batch bytes is configured, rows are encoded into pooled buffers and written batch by batch,
+ * otherwise rows are written as packets and flushed by count.
+ * Rows of batch are encoded out of event loop, so sequence ID offset of header packets is got from event loop
+ * and sequence IDs shifted by split rows are added to the EOF packet explicitly.
+ * </p>
  *
  * @author zhangliang
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final MySQLPacketCodecEngine CODEC_ENGINE = new MySQLPacketCodecEngine();
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
@@ -71,23 +85,82 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (!queryCommandExecutor.isQuery() || !context.channel().isActive()) {
             return;
         }
+        int flushBatchBytes = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_BATCH_BYTES);
+        int currentSequenceId = flushBatchBytes > 0
+                ? writeQueryDataInBatch(context, backendConnection, queryCommandExecutor, flushBatchBytes) : writeQueryDataOneByOne(context, backendConnection, queryCommandExecutor);
+        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
+    }
+    
+    private int writeQueryDataOneByOne(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         int count = 0;
         int flushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        int currentSequenceId = 0;
+        int result = 0;
         while (queryCommandExecutor.next()) {
             count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
-            }
+            waitUntilWritable(context, backendConnection);
             DatabasePacket dataValue = queryCommandExecutor.getQueryData();
             context.write(dataValue);
             if (flushThreshold == count) {
                 context.flush();
                 count = 0;
             }
-            currentSequenceId++;
+            result++;
+        }
+        return result;
+    }
+    
+    private int writeQueryDataInBatch(final ChannelHandlerContext context, 
+                                      final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int flushBatchBytes) throws SQLException {
+        int headerSequenceIdOffset = getSequenceIdOffset(context);
+        int rowsCount = 0;
+        int splitPacketsCount = 0;
+        ByteBuf batch = null;
+        try {
+            while (queryCommandExecutor.next()) {
+                if (null == batch) {
+                    waitUntilWritable(context, backendConnection);
+                    batch = context.alloc().buffer();
+                }
+                splitPacketsCount += CODEC_ENGINE.encode((MySQLPacket) queryCommandExecutor.getQueryData(), batch, headerSequenceIdOffset + splitPacketsCount);
+                rowsCount++;
+                if (batch.readableBytes() >= Math.min(flushBatchBytes, context.channel().bytesBeforeUnwritable())) {
+                    context.writeAndFlush(batch);
+                    batch = null;
+                }
+            }
+            if (null != batch) {
+                context.write(batch);
+                batch = null;
+            }
+        } finally {
+            if (null != batch) {
+                batch.release();
+            }
+        }
+        return rowsCount + splitPacketsCount;
+    }
+    
+    private int getSequenceIdOffset(final ChannelHandlerContext context) throws SQLException {
+        if (context.executor().inEventLoop()) {
+            return CODEC_ENGINE.getSequenceIdOffset(context);
+        }
+        try {
+            return context.executor().submit(new Callable<Integer>() {
+                
+                @Override
+                public Integer call() {
+                    return CODEC_ENGINE.getSequenceIdOffset(context);
+                }
+            }).get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void waitUntilWritable(final ChannelHandlerContext context, final BackendConnection backendConnection) {
+        while (!context.channel().isWritable() && context.channel().isActive()) {
+            context.flush();
+            backendConnection.getResourceSynchronizer().doAwait();
         }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
     }
 }
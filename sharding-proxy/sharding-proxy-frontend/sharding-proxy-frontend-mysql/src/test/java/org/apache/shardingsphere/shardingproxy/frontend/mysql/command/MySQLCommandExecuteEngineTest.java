@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
+
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.rule.Authentication;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLCommandExecuteEngineTest {
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    private EmbeddedChannel channel;
+    
+    @Before
+    public void setUp() throws SQLException {
+        channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()), new ChannelInboundHandlerAdapter());
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        when(queryCommandExecutor.getQueryData()).thenReturn(
+                new MySQLTextResultSetRowPacket(4, Collections.<Object>singletonList("a")), (DatabasePacket) new MySQLTextResultSetRowPacket(5, Collections.<Object>singletonList("b")));
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingProxyContext.getInstance().init(new Authentication(), new Properties());
+        channel.close();
+    }
+    
+    @Test
+    public void assertWriteQueryDataOneByOne() throws SQLException {
+        new MySQLCommandExecuteEngine().writeQueryData(channel.pipeline().lastContext(), backendConnection, queryCommandExecutor, 3);
+        channel.flush();
+        assertPacket((ByteBuf) channel.readOutbound(), 4);
+        assertPacket((ByteBuf) channel.readOutbound(), 5);
+        assertEofPacket((ByteBuf) channel.readOutbound());
+    }
+    
+    @Test
+    public void assertWriteQueryDataInBatch() throws SQLException {
+        initFlushBatchBytes(1024);
+        new MySQLCommandExecuteEngine().writeQueryData(channel.pipeline().lastContext(), backendConnection, queryCommandExecutor, 3);
+        channel.flush();
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readMediumLE(), is(2));
+        assertThat(actual.readByte(), is((byte) 4));
+        actual.skipBytes(2);
+        assertPacket(actual, 5);
+        assertEofPacket((ByteBuf) channel.readOutbound());
+    }
+    
+    @Test
+    public void assertWriteQueryDataInBatchWithSmallFlushBatchBytes() throws SQLException {
+        initFlushBatchBytes(1);
+        new MySQLCommandExecuteEngine().writeQueryData(channel.pipeline().lastContext(), backendConnection, queryCommandExecutor, 3);
+        channel.flush();
+        assertPacket((ByteBuf) channel.readOutbound(), 4);
+        assertPacket((ByteBuf) channel.readOutbound(), 5);
+        assertEofPacket((ByteBuf) channel.readOutbound());
+    }
+    
+    @Test
+    public void assertWriteQueryDataInBatchWithSplitRow() throws SQLException {
+        initFlushBatchBytes(1);
+        when(queryCommandExecutor.getQueryData()).thenReturn(
+                new MySQLTextResultSetRowPacket(4, Collections.<Object>singletonList(Strings.repeat("a", 0xffffff))), (DatabasePacket) new MySQLTextResultSetRowPacket(5, Collections.<Object>singletonList("b")));
+        new MySQLCommandExecuteEngine().writeQueryData(channel.pipeline().lastContext(), backendConnection, queryCommandExecutor, 3);
+        channel.flush();
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(actual.readByte(), is((byte) 4));
+        actual.skipBytes(0xffffff);
+        assertThat(actual.readMediumLE(), is(4));
+        assertThat(actual.readByte(), is((byte) 5));
+        actual.release();
+        assertPacket((ByteBuf) channel.readOutbound(), 6);
+        ByteBuf eofPacket = channel.readOutbound();
+        assertThat(eofPacket.getByte(3), is((byte) 7));
+        eofPacket.release();
+    }
+    
+    private void initFlushBatchBytes(final int flushBatchBytes) {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_BATCH_BYTES.getKey(), String.valueOf(flushBatchBytes));
+        ShardingProxyContext.getInstance().init(new Authentication(), props);
+    }
+    
+    private void assertPacket(final ByteBuf actual, final int sequenceId) {
+        assertThat(actual.readMediumLE(), is(2));
+        assertThat(actual.readByte(), is((byte) sequenceId));
+        actual.skipBytes(2);
+        assertFalse(actual.isReadable());
+        actual.release();
+    }
+    
+    private void assertEofPacket(final ByteBuf actual) {
+        assertThat(actual.getByte(3), is((byte) 6));
+        actual.release();
+        assertThat(channel.outboundMessages().size(), is(0));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
@@ -28,10 +29,22 @@ import java.util.List;
 /**
  * Database packet codec for MySQL.
  * 
+ * <p>
+ * Packets are written into out buffer directly after reserved header, and header is filled after payload written.
+ * Payload of 2^24-1 bytes or more is split into multiple packets with increasing sequence IDs,
+ * and sequence IDs of following packets in the same command are shifted accordingly.
+ * </p>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final AttributeKey<Integer> SEQUENCE_ID_OFFSET = AttributeKey.valueOf(MySQLPacketCodecEngine.class, "SEQUENCE_ID_OFFSET");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
@@ -45,16 +58,91 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             in.resetReaderIndex();
             return;
         }
+        resetSequenceIdOffset(context);
         out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
     }
     
+    private void resetSequenceIdOffset(final ChannelHandlerContext context) {
+        if (context.channel().hasAttr(SEQUENCE_ID_OFFSET)) {
+            context.channel().attr(SEQUENCE_ID_OFFSET).set(null);
+        }
+    }
+    
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int sequenceIdOffset = getSequenceIdOffset(context);
+        int splitPacketsCount = encode(message, out, sequenceIdOffset);
+        if (splitPacketsCount > 0) {
+            context.channel().attr(SEQUENCE_ID_OFFSET).set(sequenceIdOffset + splitPacketsCount);
+        }
+    }
+    
+    /**
+     * Encode packet with given sequence ID offset.
+     * 
+     * <p>
+     * Sequence ID offset of channel is neither read nor changed, so packets can be encoded out of event loop.
+     * </p>
+     * 
+     * @param message packet to be encoded
+     * @param out out buffer
+     * @param sequenceIdOffset sequence ID offset to be added to sequence ID of packet
+     * @return count of additional packets split from payload
+     */
+    public int encode(final MySQLPacket message, final ByteBuf out, final int sequenceIdOffset) {
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        int sequenceId = (message.getSequenceId() + sequenceIdOffset) & 0xff;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+            return 0;
+        }
+        return writeSplitPackets(out, headerIndex, payloadLength, sequenceId) - 1;
+    }
+    
+    /**
+     * Get sequence ID offset of channel.
+     * 
+     * <p>
+     * Sequence ID offset is changed by packets encoded in event loop, so it should be got in event loop too.
+     * </p>
+     * 
+     * @param context channel handler context
+     * @return sequence ID offset of current command
+     */
+    public int getSequenceIdOffset(final ChannelHandlerContext context) {
+        if (!context.channel().hasAttr(SEQUENCE_ID_OFFSET)) {
+            return 0;
+        }
+        Integer result = context.channel().attr(SEQUENCE_ID_OFFSET).get();
+        return null == result ? 0 : result;
+    }
+    
+    private int writeSplitPackets(final ByteBuf out, final int headerIndex, final int payloadLength, final int sequenceId) {
+        ByteBuf payload = out.copy(headerIndex + HEADER_LENGTH, payloadLength);
+        try {
+            out.writerIndex(headerIndex);
+            int result = 0;
+            int remainLength = payloadLength;
+            do {
+                int packetLength = Math.min(remainLength, MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(packetLength);
+                out.writeByte((sequenceId + result) & 0xff);
+                out.writeBytes(payload, packetLength);
+                remainLength -= packetLength;
+                result++;
+                if (0 == remainLength && MAX_PAYLOAD_LENGTH == packetLength) {
+                    out.writeMediumLE(0);
+                    out.writeByte((sequenceId + result) & 0xff);
+                    result++;
+                }
+            } while (remainLength > 0);
+            return result;
+        } finally {
+            payload.release();
         }
     }
     
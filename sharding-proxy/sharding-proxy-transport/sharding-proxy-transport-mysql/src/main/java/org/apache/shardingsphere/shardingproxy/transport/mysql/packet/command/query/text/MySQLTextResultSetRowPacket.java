@@ -23,6 +23,8 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacke
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
@@ -39,6 +41,8 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final int MAX_LONG_DECIMAL_PRECISION = 18;
+    
     @Getter
     private final int sequenceId;
     
@@ -58,18 +62,66 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             if (null == each) {
                 payload.writeInt1(NULL);
             } else {
-                if (each instanceof byte[]) {
-                    payload.writeBytesLenenc((byte[]) each);
-                } else if (each instanceof Timestamp) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
-                } else if (each instanceof BigDecimal) {
-                    payload.writeStringLenenc(((BigDecimal) each).toPlainString());
-                } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
-                } else {
-                    payload.writeStringLenenc(each.toString());
-                }
+                writeValue(payload, each);
             }
         }
     }
+    
+    private void writeValue(final MySQLPacketPayload payload, final Object value) {
+        if (value instanceof byte[]) {
+            payload.writeBytesLenenc((byte[]) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            payload.writeDecimalStringLenenc(((Number) value).longValue(), 0);
+        } else if (value instanceof Timestamp) {
+            writeTimestamp(payload, (Timestamp) value);
+        } else if (value instanceof Date) {
+            writeDate(payload, (Date) value);
+        } else if (value instanceof Time) {
+            writeTime(payload, (Time) value);
+        } else if (value instanceof BigDecimal) {
+            writeBigDecimal(payload, (BigDecimal) value);
+        } else if (value instanceof Boolean) {
+            payload.writeInt1(1);
+            payload.writeInt1((Boolean) value ? 1 : 0);
+        } else {
+            payload.writeStringLenenc(value.toString());
+        }
+    }
+    
+    @SuppressWarnings("deprecation")
+    private void writeTimestamp(final MySQLPacketPayload payload, final Timestamp value) {
+        int year = value.getYear() + 1900;
+        if (isFourDigitsYear(year)) {
+            payload.writeDateTimeStringLenenc(year, value.getMonth() + 1, value.getDate(), value.getHours(), value.getMinutes(), value.getSeconds());
+        } else {
+            payload.writeStringLenenc(value.toString().split("\\.")[0]);
+        }
+    }
+    
+    @SuppressWarnings("deprecation")
+    private void writeDate(final MySQLPacketPayload payload, final Date value) {
+        int year = value.getYear() + 1900;
+        if (isFourDigitsYear(year)) {
+            payload.writeDateStringLenenc(year, value.getMonth() + 1, value.getDate());
+        } else {
+            payload.writeStringLenenc(value.toString());
+        }
+    }
+    
+    @SuppressWarnings("deprecation")
+    private void writeTime(final MySQLPacketPayload payload, final Time value) {
+        payload.writeTimeStringLenenc(value.getHours(), value.getMinutes(), value.getSeconds());
+    }
+    
+    private boolean isFourDigitsYear(final int year) {
+        return year >= 0 && year <= 9999;
+    }
+    
+    private void writeBigDecimal(final MySQLPacketPayload payload, final BigDecimal value) {
+        if (value.scale() >= 0 && value.precision() <= MAX_LONG_DECIMAL_PRECISION) {
+            payload.writeDecimalStringLenenc(value.unscaledValue().longValue(), value.scale());
+        } else {
+            payload.writeStringLenenc(value.toPlainString());
+        }
+    }
 }
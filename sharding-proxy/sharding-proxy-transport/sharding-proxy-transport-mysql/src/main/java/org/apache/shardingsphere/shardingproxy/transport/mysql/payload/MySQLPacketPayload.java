@@ -263,8 +263,114 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
+    }
+    
+    /**
+     * Write lenenc string of decimal number to byte buffers without creating string.
+     * 
+     * @param unscaledValue unscaled value of decimal number
+     * @param scale scale of decimal number, must not be negative
+     */
+    public void writeDecimalStringLenenc(final long unscaledValue, final int scale) {
+        boolean negative = unscaledValue < 0;
+        long remainValue = negative ? unscaledValue : -unscaledValue;
+        int integerDigitCount = Math.max(getDigitCount(remainValue) - scale, 1);
+        int length = (negative ? 1 : 0) + integerDigitCount + (0 == scale ? 0 : scale + 1);
+        writeIntLenenc(length);
+        byteBuf.ensureWritable(length);
+        int startIndex = byteBuf.writerIndex();
+        int index = startIndex + length;
+        for (int i = 0; i < scale; i++) {
+            byteBuf.setByte(--index, '0' - (int) (remainValue % 10));
+            remainValue /= 10;
+        }
+        if (0 != scale) {
+            byteBuf.setByte(--index, '.');
+        }
+        do {
+            byteBuf.setByte(--index, '0' - (int) (remainValue % 10));
+            remainValue /= 10;
+        } while (0 != remainValue);
+        if (negative) {
+            byteBuf.setByte(startIndex, '-');
+        }
+        byteBuf.writerIndex(startIndex + length);
+    }
+    
+    private int getDigitCount(final long nonPositiveValue) {
+        int result = 1;
+        long remainValue = nonPositiveValue;
+        while (remainValue <= -10) {
+            remainValue /= 10;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write lenenc string of date time as {@code yyyy-MM-dd HH:mm:ss} to byte buffers without creating string.
+     * 
+     * @param year year, must between 0 and 9999
+     * @param month month of year, from 1
+     * @param day day of month
+     * @param hour hour of day
+     * @param minute minute of hour
+     * @param second second of minute
+     */
+    public void writeDateTimeStringLenenc(final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        writeIntLenenc(19);
+        writeDate(year, month, day);
+        byteBuf.writeByte(' ');
+        writeTime(hour, minute, second);
+    }
+    
+    /**
+     * Write lenenc string of date as {@code yyyy-MM-dd} to byte buffers without creating string.
+     * 
+     * @param year year, must between 0 and 9999
+     * @param month month of year, from 1
+     * @param day day of month
+     */
+    public void writeDateStringLenenc(final int year, final int month, final int day) {
+        writeIntLenenc(10);
+        writeDate(year, month, day);
+    }
+    
+    /**
+     * Write lenenc string of time as {@code HH:mm:ss} to byte buffers without creating string.
+     * 
+     * @param hour hour of day
+     * @param minute minute of hour
+     * @param second second of minute
+     */
+    public void writeTimeStringLenenc(final int hour, final int minute, final int second) {
+        writeIntLenenc(8);
+        writeTime(hour, minute, second);
+    }
+    
+    private void writeDate(final int year, final int month, final int day) {
+        writeTwoDigits(year / 100);
+        writeTwoDigits(year % 100);
+        byteBuf.writeByte('-');
+        writeTwoDigits(month);
+        byteBuf.writeByte('-');
+        writeTwoDigits(day);
+    }
+    
+    private void writeTime(final int hour, final int minute, final int second) {
+        writeTwoDigits(hour);
+        byteBuf.writeByte(':');
+        writeTwoDigits(minute);
+        byteBuf.writeByte(':');
+        writeTwoDigits(second);
+    }
+    
+    private void writeTwoDigits(final int value) {
+        byteBuf.writeByte('0' + value / 10);
+        byteBuf.writeByte('0' + value % 10);
     }
     
     /**
@@ -18,16 +18,21 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
-import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -35,8 +40,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -48,6 +51,9 @@ public final class MySQLPacketCodecEngineTest {
     @Mock
     private ByteBuf byteBuf;
     
+    @Mock
+    private Channel channel;
+    
     @Test
     public void assertIsValidHeader() {
         assertTrue(new MySQLPacketCodecEngine().isValidHeader(50));
@@ -63,6 +69,7 @@ public final class MySQLPacketCodecEngineTest {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
         when(byteBuf.readMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
+        when(context.channel()).thenReturn(channel);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 54);
         assertThat(out.size(), is(1));
@@ -79,18 +86,83 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        embeddedChannel.writeOutbound(new MySQLTextResultSetRowPacket(1, Collections.<Object>singletonList("value")));
+        ByteBuf actual = embeddedChannel.readOutbound();
+        assertThat(actual.readMediumLE(), is(6));
+        assertThat(actual.readByte(), is((byte) 1));
+        assertThat(actual.readByte(), is((byte) 5));
+        assertThat(actual.readCharSequence(5, CharsetUtil.UTF_8).toString(), is("value"));
+        assertFalse(actual.isReadable());
+        actual.release();
+    }
+    
+    @Test
+    public void assertEncodeWithSplitPayload() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        ByteBuf actual = Unpooled.buffer();
+        engine.encode(context, new MySQLTextResultSetRowPacket(1, Collections.<Object>singletonList(new byte[0xffffff])), actual);
+        assertThat(actual.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(actual.readByte(), is((byte) 1));
+        actual.skipBytes(0xffffff);
+        assertThat(actual.readMediumLE(), is(4));
+        assertThat(actual.readByte(), is((byte) 2));
+        actual.skipBytes(4);
+        assertFalse(actual.isReadable());
+        actual.clear();
+        engine.encode(context, new MySQLTextResultSetRowPacket(2, Collections.<Object>singletonList(1L)), actual);
+        assertThat(actual.getByte(3), is((byte) 3));
+        actual.clear();
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, Unpooled.wrappedBuffer(new byte[] {1, 0, 0, 0, 1}), out, 5);
+        ((ByteBuf) out.get(0)).release();
+        engine.encode(context, new MySQLTextResultSetRowPacket(1, Collections.<Object>singletonList(1L)), actual);
+        assertThat(actual.getByte(3), is((byte) 1));
+        actual.release();
+    }
+    
+    @Test
+    public void assertEncodeWithSequenceIdOffset() {
+        Channel embeddedChannel = new EmbeddedChannel();
+        when(context.channel()).thenReturn(embeddedChannel);
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        ByteBuf actual = Unpooled.buffer();
+        assertThat(engine.encode(new MySQLTextResultSetRowPacket(1, Collections.<Object>singletonList(new byte[0xffffff])), actual, 2), is(1));
+        assertThat(actual.getByte(3), is((byte) 3));
+        assertThat(actual.getByte(0xffffff + 7), is((byte) 4));
+        actual.release();
+        assertThat(engine.getSequenceIdOffset(context), is(0));
+    }
+    
+    @Test
+    public void assertEncodeWithMaxPayloadLength() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new MySQLTextResultSetRowPacket(1, Collections.<Object>singletonList(new byte[0xffffff - 4])), actual);
+        assertThat(actual.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(actual.readByte(), is((byte) 1));
+        actual.skipBytes(0xffffff);
+        assertThat(actual.readMediumLE(), is(0));
+        assertThat(actual.readByte(), is((byte) 2));
+        assertFalse(actual.isReadable());
+        actual.release();
+    }
+    
+    @Test
+    public void assertEncodeMultipleRows() {
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        int rowCount = 1000;
+        for (int i = 0; i < rowCount; i++) {
+            embeddedChannel.writeOutbound(new MySQLTextResultSetRowPacket((i + 2) & 0xff, Arrays.<Object>asList((long) i, "value_" + i, new BigDecimal("12.50"))));
+        }
+        for (int i = 0; i < rowCount; i++) {
+            ByteBuf actual = embeddedChannel.readOutbound();
+            assertThat(actual.readMediumLE(), is(actual.readableBytes() - 1));
+            assertThat(actual.readByte(), is((byte) (i + 2)));
+            actual.release();
+        }
+        assertThat(embeddedChannel.outboundMessages().size(), is(0));
     }
     
     @Test
@@ -24,6 +24,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Arrays;
 
@@ -48,14 +50,28 @@ public final class MySQLTextResultSetRowPacketTest {
         verify(payload, times(3)).readStringLenenc();
     }
     
+    @SuppressWarnings("deprecation")
     @Test
     public void assertWrite() {
         long now = System.currentTimeMillis();
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.<Object>asList(null, "value", BigDecimal.ONE, new byte[] {}, new Timestamp(now)));
+        Timestamp timestamp = new Timestamp(now);
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.<Object>asList(null, "value", BigDecimal.ONE, new byte[] {}, timestamp, 10L, new BigDecimal("1E+3")));
         actual.write(payload);
         verify(payload).writeInt1(0xfb);
         verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc((new Timestamp(now)).toString().split("\\.")[0]);
+        verify(payload).writeDecimalStringLenenc(1L, 0);
+        verify(payload).writeDateTimeStringLenenc(
+                timestamp.getYear() + 1900, timestamp.getMonth() + 1, timestamp.getDate(), timestamp.getHours(), timestamp.getMinutes(), timestamp.getSeconds());
+        verify(payload).writeDecimalStringLenenc(10L, 0);
+        verify(payload).writeStringLenenc("1000");
+    }
+    
+    @Test
+    public void assertWriteDateAndTime() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.<Object>asList(Date.valueOf("2019-07-05"), Time.valueOf("09:30:00"), true));
+        actual.write(payload);
+        verify(payload).writeDateStringLenenc(2019, 7, 5);
+        verify(payload).writeTimeStringLenenc(9, 30, 0);
+        verify(payload, times(2)).writeInt1(1);
     }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -203,6 +205,46 @@ public final class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    public void assertWriteDecimalStringLenenc() {
+        assertDecimalStringLenenc(0L, 0, "0");
+        assertDecimalStringLenenc(Long.MIN_VALUE, 0, String.valueOf(Long.MIN_VALUE));
+        assertDecimalStringLenenc(1250L, 2, "12.50");
+        assertDecimalStringLenenc(-5L, 2, "-0.05");
+        assertDecimalStringLenenc(0L, 2, "0.00");
+    }
+    
+    private void assertDecimalStringLenenc(final long unscaledValue, final int scale, final String expected) {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeDecimalStringLenenc(unscaledValue, scale);
+        assertThat(actual.readByte(), is((byte) expected.length()));
+        assertThat(actual.toString(CharsetUtil.UTF_8), is(expected));
+    }
+    
+    @Test
+    public void assertWriteDateTimeStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeDateTimeStringLenenc(2019, 7, 5, 9, 30, 0);
+        assertThat(actual.readByte(), is((byte) 19));
+        assertThat(actual.toString(CharsetUtil.UTF_8), is("2019-07-05 09:30:00"));
+    }
+    
+    @Test
+    public void assertWriteDateStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeDateStringLenenc(5, 12, 31);
+        assertThat(actual.readByte(), is((byte) 10));
+        assertThat(actual.toString(CharsetUtil.UTF_8), is("0005-12-31"));
+    }
+    
+    @Test
+    public void assertWriteTimeStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeTimeStringLenenc(23, 59, 1);
+        assertThat(actual.readByte(), is((byte) 8));
+        assertThat(actual.toString(CharsetUtil.UTF_8), is("23:59:01"));
+    }
+    
     @Test
     public void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf).readStringFix(0), is(""));